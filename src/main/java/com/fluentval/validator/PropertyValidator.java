@@ -281,9 +281,20 @@ public class PropertyValidator<T, V> {
     private final ValidationIdentifier identifier;
 
     /**
-     * The actual value of the property being validated.
+     * The function that extracts the property value from the parent validator's target.
+     * Extraction is deferred until the value is first needed by a rule that actually runs.
      */
-    private final V value;
+    private final Function<T, V> extractor;
+
+    /**
+     * The extracted value of the property being validated, valid once {@link #valueExtracted} is set.
+     */
+    private V value;
+
+    /**
+     * Flag indicating whether the property value has already been extracted.
+     */
+    private boolean valueExtracted = false;
 
     /**
      * Flag indicating whether this property validator should short-circuit further validation.
@@ -294,16 +305,43 @@ public class PropertyValidator<T, V> {
      * Package-private constructor for creating PropertyValidator instances.
      * This constructor is called by the Validator class when creating property validation contexts.
      *
+     * <p>The extractor is not invoked here. It is applied to the parent's target the first time
+     * a rule, condition or consumer of this property actually needs the value, so properties that
+     * are short-circuited never pay for extraction. A null target always yields a null value.</p>
+     *
      * @param parent the parent validator context
      * @param identifier the identifier for this property
-     * @param value the value to be validated
+     * @param extractor the function that extracts the value to be validated from the parent's target
      */
     PropertyValidator(final Validator<T> parent,
                       final ValidationIdentifier identifier,
-                      final V value) {
+                      final Function<T, V> extractor) {
         this.parent = parent;
         this.identifier = identifier;
-        this.value = value;
+        this.extractor = extractor;
+    }
+
+    /**
+     * Returns the property value, extracting it from the parent's target on first access.
+     *
+     * @return the property value, or null if the parent's target is null
+     */
+    private V value() {
+        if (!valueExtracted) {
+            T target = parent.getTarget();
+            value = target != null ? extractor.apply(target) : null;
+            valueExtracted = true;
+        }
+        return value;
+    }
+
+    /**
+     * Checks whether this property validator or its parent validator is short-circuited.
+     *
+     * @return true if further validation of this property should be skipped
+     */
+    private boolean isSkipped() {
+        return shortCircuit || parent.isShortCircuited();
     }
 
     /**
@@ -349,8 +387,8 @@ public class PropertyValidator<T, V> {
      * @see ValidationRule
      */
     public PropertyValidator<T, V> validate(final ValidationRule<V> rule) {
-        if (!shortCircuit && !parent.isShortCircuited()) {
-            rule.validate(value, parent.getResult(), identifier);
+        if (!isSkipped()) {
+            rule.validate(value(), parent.getResult(), identifier);
         }
         return this;
     }
@@ -401,8 +439,11 @@ public class PropertyValidator<T, V> {
      */
     public PropertyValidator<T, V> validateWhen(final Predicate<V> condition,
                                                 final ValidationRule<V> rule) {
-        if (!shortCircuit && !parent.isShortCircuited() && condition.test(value)) {
-            rule.validate(value, parent.getResult(), identifier);
+        if (!isSkipped()) {
+            V currentValue = value();
+            if (condition.test(currentValue)) {
+                rule.validate(currentValue, parent.getResult(), identifier);
+            }
         }
         return this;
     }
@@ -447,9 +488,8 @@ public class PropertyValidator<T, V> {
      * @see ValidationRule
      */
     public PropertyValidator<T, V> validateIfNoError(final ValidationRule<V> rule) {
-        if (!shortCircuit && !parent.isShortCircuited() &&
-                !parent.getResult().hasErrorForIdentifier(identifier)) {
-            rule.validate(value, parent.getResult(), identifier);
+        if (!isSkipped() && !parent.getResult().hasErrorForIdentifier(identifier)) {
+            rule.validate(value(), parent.getResult(), identifier);
         }
         return this;
     }
@@ -510,9 +550,8 @@ public class PropertyValidator<T, V> {
      */
     public PropertyValidator<T, V> validateIfNoErrorFor(final ValidationIdentifier otherIdentifier,
                                                         final ValidationRule<V> rule) {
-        if (!shortCircuit && !parent.isShortCircuited() &&
-                !parent.getResult().hasErrorForIdentifier(otherIdentifier)) {
-            rule.validate(value, parent.getResult(), identifier);
+        if (!isSkipped() && !parent.getResult().hasErrorForIdentifier(otherIdentifier)) {
+            rule.validate(value(), parent.getResult(), identifier);
         }
         return this;
     }
@@ -577,8 +616,8 @@ public class PropertyValidator<T, V> {
      * @see Validator
      */
     public PropertyValidator<T, V> validateScoped(final ScopedValidationRule<V> rule) {
-        if (!shortCircuit && !parent.isShortCircuited()) {
-            rule.validate(value, parent);
+        if (!isSkipped()) {
+            rule.validate(value(), parent);
         }
         return this;
     }
@@ -635,8 +674,11 @@ public class PropertyValidator<T, V> {
      * @return this PropertyValidator instance for method chaining
      */
     public PropertyValidator<T, V> peek(final Consumer<V> consumer) {
-        if (!shortCircuit && !parent.isShortCircuited() && value != null) {
-            consumer.accept(value);
+        if (!isSkipped()) {
+            V currentValue = value();
+            if (currentValue != null) {
+                consumer.accept(currentValue);
+            }
         }
         return this;
     }
@@ -737,6 +779,10 @@ public class PropertyValidator<T, V> {
      * a new property validation context for a nested property. The nested validator
      * inherits the current validation state and can contribute to the overall validation result.</p>
      *
+     * <p>Both this property's value and the nested value are extracted lazily, when the first
+     * nested rule runs. If this property is already short-circuited, the nested validator starts
+     * short-circuited as well and no value is extracted at all.</p>
+     *
      * <p>Example usage:</p>
      * <pre>{@code
      * // Deep nested object validation
@@ -799,11 +845,10 @@ public class PropertyValidator<T, V> {
      */
     public <K> PropertyValidator<V, K> property(final ValidationIdentifier nestedIdentifier,
                                                 final Function<V, K> extractor) {
-        return new PropertyValidator<>(
-                new Validator<>(value, parent.getResult(), shortCircuit),
-                nestedIdentifier,
-                value != null ? extractor.apply(value) : null
-        );
+        Validator<V> nestedParent = isSkipped()
+                ? new Validator<>(null, parent.getResult(), true)
+                : Validator.deferred(this::value, parent.getResult());
+        return new PropertyValidator<>(nestedParent, nestedIdentifier, extractor);
     }
 
     /**
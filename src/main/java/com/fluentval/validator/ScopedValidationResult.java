@@ -1,7 +1,13 @@
 package com.fluentval.validator;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
 
 /**
  * A specialized ValidationResult that maintains a hierarchical relationship with a parent
@@ -283,9 +289,38 @@ import java.util.List;
 public class ScopedValidationResult extends ValidationResult {
 
     /**
-     * The parent ValidationResult that provides the broader validation context.
+     * The nearest enclosing result that is not a scope. Its first {@link #rootCount} failures
+     * are the oldest failures this scope inherits.
      */
-    private final ValidationResult parentResult;
+    private final ValidationResult root;
+
+    /**
+     * Number of failures of {@link #root} inherited by this scope.
+     */
+    private final int rootCount;
+
+    /**
+     * Failures recorded by this scope and its enclosing scopes, shared with the scopes created
+     * from it; null until one of them records a failure. Only the first {@link #logEnd} entries
+     * belong to this scope's view.
+     */
+    private FailureLog log;
+
+    /**
+     * Number of entries of {@link #log} visible to this scope.
+     */
+    private int logEnd;
+
+    /**
+     * Number of entries of {@link #log} inherited from enclosing scopes.
+     */
+    private final int inheritedLogEnd;
+
+    /**
+     * Identifier bits of all failures inherited from the parent, in the layout of
+     * {@link ValidationResult#copyIdentifierBits()}.
+     */
+    private final long[] inheritedIdentifierBits;
 
     /**
      * Creates a new ScopedValidationResult with the specified parent ValidationResult.
@@ -294,6 +329,16 @@ public class ScopedValidationResult extends ValidationResult {
      * result will collect additional validation failures specific to the current scope.
      * All query methods will consider both parent and local failures.</p>
      *
+     * <p>The scope inherits the failures its parent holds when the scope is created; failures
+     * added to the parent afterwards, for example by {@link Validator#mergeScopedFailures(Validator)},
+     * are not visible through the scope. The inherited failure count and identifier bits are
+     * taken once here, so every query answers in constant time whatever the nesting depth, and
+     * the parent holds no reference to the scope, so scopes can be created freely and are
+     * collected like any other object.</p>
+     *
+     * <p>The scope shares the parent's {@link ValidationContext}, so rules in both see the
+     * same current time.</p>
+     *
      * <p>Example usage:</p>
      * <pre>{@code
      * // Parent validation result from user validation
@@ -321,7 +366,36 @@ public class ScopedValidationResult extends ValidationResult {
      * @throws NullPointerException if parentResult is null
      */
     public ScopedValidationResult(ValidationResult parentResult) {
-        this.parentResult = parentResult;
+        super(Objects.requireNonNull(parentResult, "Parent result must not be null"));
+        if (parentResult instanceof ScopedValidationResult parentScope) {
+            this.root = parentScope.root;
+            this.rootCount = parentScope.rootCount;
+            this.log = parentScope.log;
+            this.logEnd = parentScope.logEnd;
+        } else {
+            this.root = parentResult;
+            this.rootCount = parentResult.failureCount();
+        }
+        this.inheritedLogEnd = logEnd;
+        this.inheritedIdentifierBits = parentResult.copyIdentifierBits();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The failure is also appended to the log shared with the scopes created from this one.
+     * If one of them has already appended past this scope's view, the log is copied first.</p>
+     */
+    @Override
+    public void addFailure(final Failure failure) {
+        super.addFailure(failure);
+        if (log == null) {
+            log = new FailureLog();
+        } else if (log.size != logEnd) {
+            log = log.copyOf(logEnd);
+        }
+        log.add(failure);
+        logEnd = log.size;
     }
 
     /**
@@ -331,6 +405,9 @@ public class ScopedValidationResult extends ValidationResult {
      * or the parent scope has validation failures. This provides a comprehensive
      * view of the validation state across both scopes.</p>
      *
+     * <p>The check compares the combined failure count with zero, which is maintained as
+     * failures are added, so it costs the same at any nesting depth.</p>
+     *
      * <p>Example usage:</p>
      * <pre>{@code
      * ValidationResult parentResult = validateBasicInfo(user);
@@ -361,7 +438,7 @@ public class ScopedValidationResult extends ValidationResult {
      */
     @Override
     public boolean hasErrors() {
-        return super.hasErrors() || parentResult.hasErrors();
+        return failureCount() > 0;
     }
 
     /**
@@ -405,8 +482,35 @@ public class ScopedValidationResult extends ValidationResult {
      */
     @Override
     public boolean hasErrorForIdentifier(final ValidationIdentifier identifier) {
-        return super.hasErrorForIdentifier(identifier) ||
-                parentResult.hasErrorForIdentifier(identifier);
+        if (super.hasErrorForIdentifier(identifier)) {
+            return true;
+        }
+        int id = identifier.id();
+        if (id >= 0) {
+            return hasIdentifierBit(inheritedIdentifierBits, id);
+        }
+        int rootIndex = root.firstFailureIndex(identifier);
+        if (rootIndex >= 0 && rootIndex < rootCount) {
+            return true;
+        }
+        return log != null && log.firstIndexOf(identifier) < inheritedLogEnd;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Combines this scope's own identifier bits with the inherited ones.</p>
+     */
+    @Override
+    long[] copyIdentifierBits() {
+        long[] bits = super.copyIdentifierBits();
+        if (bits.length < inheritedIdentifierBits.length) {
+            bits = Arrays.copyOf(bits, inheritedIdentifierBits.length);
+        }
+        for (int i = 0; i < inheritedIdentifierBits.length; i++) {
+            bits[i] |= inheritedIdentifierBits[i];
+        }
+        return bits;
     }
 
     /**
@@ -416,8 +520,9 @@ public class ScopedValidationResult extends ValidationResult {
      * from the current scope. This provides a comprehensive view of all validation failures
      * across the entire validation hierarchy.</p>
      *
-     * <p>The returned list is a defensive copy and can be safely modified without affecting
-     * the internal state of this ScopedValidationResult.</p>
+     * <p>The returned list is an unmodifiable view over the inherited failures and this scope's
+     * failures, including those added to this scope later; no failures are copied when it is
+     * obtained.</p>
      *
      * <p>Example usage:</p>
      * <pre>{@code
@@ -451,25 +556,65 @@ public class ScopedValidationResult extends ValidationResult {
      * System.out.println("Parent failures: " + (allFailures.size() - scopedOnly.size()));
      * }</pre>
      *
-     * @return a new list containing all failures from both parent and current scope
+     * @return an unmodifiable view of all failures from both parent and current scope
      */
     @Override
     public List<Failure> getFailures() {
-        List<Failure> allFailures = new ArrayList<>(parentResult.getFailures());
-        allFailures.addAll(super.getFailures());
-        return allFailures;
+        return new CombinedFailuresView();
+    }
+
+    /**
+     * Returns the number of validation failures in both the parent scope and this scope.
+     *
+     * @return the combined number of validation failures
+     */
+    @Override
+    public int failureCount() {
+        return rootCount + logEnd;
+    }
+
+    /**
+     * Returns the validation failure at the given position of the combined failure list,
+     * where the parent scope's failures come first.
+     *
+     * @param index the position of the failure
+     * @return the failure at the given position
+     * @throws IndexOutOfBoundsException if index is negative or not less than {@link #failureCount()}
+     */
+    @Override
+    public Failure failureAt(final int index) {
+        if (index < 0 || index >= failureCount()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + failureCount());
+        }
+        return index < rootCount ? root.failureAt(index) : log.failures[index - rootCount];
     }
 
     /**
-     * Returns a defensive copy of validation failures specific to this scope only,
+     * Performs the given action for each failure of the parent scope, followed by
+     * each failure of this scope.
+     *
+     * @param action the action to perform for each failure
+     * @throws NullPointerException if action is null
+     */
+    @Override
+    public void forEachFailure(final Consumer<? super Failure> action) {
+        for (int i = 0; i < rootCount; i++) {
+            action.accept(root.failureAt(i));
+        }
+        for (int i = 0; i < logEnd; i++) {
+            action.accept(log.failures[i]);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable, live view of validation failures specific to this scope only,
      * excluding any failures from the parent scope.
      *
      * <p>This method provides access to only the validation failures that were added
      * directly to this ScopedValidationResult, allowing for fine-grained analysis
      * of validation results and scope-specific error handling.</p>
      *
-     * <p>The returned list is a defensive copy and can be safely modified without
-     * affecting the internal state of this ScopedValidationResult.</p>
+     * <p>The returned list is read-only and reflects failures added to this scope later.</p>
      *
      * <p>Example usage:</p>
      * <pre>{@code
@@ -514,9 +659,70 @@ public class ScopedValidationResult extends ValidationResult {
      * <li>Conditional processing based on scope-specific validation state</li>
      * </ul>
      *
-     * @return a new list containing only the failures specific to this scope
+     * @return an unmodifiable view of the failures specific to this scope
      */
     public List<Failure> getScopedFailures() {
-        return new ArrayList<>(super.getFailures());
+        return super.getFailures();
+    }
+
+    /**
+     * Append-only log of the failures recorded by a chain of nested scopes, in the order they
+     * were added, together with the first position of every identifier that has no dense id.
+     */
+    private static final class FailureLog {
+
+        Failure[] failures = new Failure[8];
+        int size;
+        final Map<ValidationIdentifier, Integer> firstUnindexed = new HashMap<>();
+
+        void add(final Failure failure) {
+            if (size == failures.length) {
+                failures = Arrays.copyOf(failures, size * 2);
+            }
+            ValidationIdentifier identifier = failure.getIdentifier();
+            if (identifier.id() < 0) {
+                firstUnindexed.putIfAbsent(identifier, size);
+            }
+            failures[size++] = failure;
+        }
+
+        /**
+         * Returns the position of the first failure of the identifier, or {@link Integer#MAX_VALUE} if none.
+         */
+        int firstIndexOf(final ValidationIdentifier identifier) {
+            return firstUnindexed.getOrDefault(identifier, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Returns a new log holding the first {@code end} entries of this one.
+         */
+        FailureLog copyOf(final int end) {
+            FailureLog copy = new FailureLog();
+            copy.failures = new Failure[Math.max(end * 2, 8)];
+            System.arraycopy(failures, 0, copy.failures, 0, end);
+            copy.size = end;
+            for (Map.Entry<ValidationIdentifier, Integer> entry : firstUnindexed.entrySet()) {
+                if (entry.getValue() < end) {
+                    copy.firstUnindexed.put(entry.getKey(), entry.getValue());
+                }
+            }
+            return copy;
+        }
+    }
+
+    /**
+     * Read-only view concatenating the parent scope's failures and this scope's failures.
+     */
+    private final class CombinedFailuresView extends AbstractList<Failure> implements RandomAccess {
+
+        @Override
+        public Failure get(final int index) {
+            return failureAt(index);
+        }
+
+        @Override
+        public int size() {
+            return failureCount();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.fluentval.validator;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Per-run validation context providing the clock and the "current" time shared by all rules
+ * and failures of a single validation run.
+ *
+ * <p>The current instant is read from the clock once, the first time it is needed, and then
+ * reused for the rest of the run. Time-relative rules such as
+ * {@link com.fluentval.validator.rule.DateTimeValidationRules#future()} compare against the
+ * same "now", and every failure recorded in the run is stamped with it as its
+ * {@link com.fluentval.validator.metadata.ValidationMetadata#getValidationTime() validation time}.
+ * Supplying a fixed clock makes time-dependent validation deterministic.</p>
+ *
+ * <p>A context belongs to one run and is not thread-safe. A {@link ValidationResult} creates
+ * a context on the system default clock when it is first needed; a {@link ScopedValidationResult}
+ * shares the context of its parent.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * Clock clock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneOffset.UTC);
+ *
+ * ValidationResult result = Validator.of(event, ValidationContext.of(clock))
+ *     .property(ValidationIdentifier.ofField("startDate"), Event::getStartDate)
+ *         .validate(DateTimeValidationRules.future()) // compared with 2024-01-15
+ *         .end()
+ *     .getResult();
+ * }</pre>
+ *
+ * @author Matej Šarić
+ * @since 1.2.3
+ * @see ValidationResult#getContext()
+ * @see Clock
+ */
+public final class ValidationContext {
+
+    /**
+     * The clock the current time is read from.
+     */
+    private final Clock clock;
+
+    /**
+     * The current instant, captured from the clock on first access.
+     */
+    private Instant now;
+
+    /**
+     * The current date in the clock's zone, derived from {@link #now} on first access.
+     */
+    private LocalDate today;
+
+    /**
+     * The current date-time in the clock's zone, derived from {@link #now} on first access.
+     */
+    private LocalDateTime localNow;
+
+    private ValidationContext(final Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a context for a single run that reads the time from the given clock.
+     *
+     * @param clock the clock to read the current time from
+     * @return a new validation context
+     * @throws NullPointerException if clock is null
+     */
+    public static ValidationContext of(final Clock clock) {
+        return new ValidationContext(Objects.requireNonNull(clock, "Clock must not be null"));
+    }
+
+    /**
+     * Creates a context for a single run on the system clock in the default time zone.
+     *
+     * @return a new validation context
+     */
+    public static ValidationContext systemDefault() {
+        return new ValidationContext(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Returns the clock of this context.
+     *
+     * @return the clock
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns the current instant of this run, reading the clock on the first call only.
+     *
+     * @return the instant captured for this run
+     */
+    public Instant now() {
+        Instant instant = now;
+        if (instant == null) {
+            instant = clock.instant();
+            now = instant;
+        }
+        return instant;
+    }
+
+    /**
+     * Returns the current date of this run in the clock's time zone.
+     *
+     * @return the date of {@link #now()}
+     */
+    public LocalDate today() {
+        LocalDate date = today;
+        if (date == null) {
+            date = LocalDate.ofInstant(now(), clock.getZone());
+            today = date;
+        }
+        return date;
+    }
+
+    /**
+     * Returns the current date-time of this run in the clock's time zone.
+     *
+     * @return the date-time of {@link #now()}
+     */
+    public LocalDateTime localNow() {
+        LocalDateTime dateTime = localNow;
+        if (dateTime == null) {
+            dateTime = LocalDateTime.ofInstant(now(), clock.getZone());
+            localNow = dateTime;
+        }
+        return dateTime;
+    }
+}
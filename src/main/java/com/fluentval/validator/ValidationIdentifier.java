@@ -2,7 +2,11 @@ package com.fluentval.validator;
 
 
 import com.fluentval.validator.metadata.ValidationMetadata;
-import lombok.EqualsAndHashCode;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents an identifier for validation contexts, providing type-safe identification
@@ -24,7 +28,9 @@ import lombok.EqualsAndHashCode;
  * <ul>
  * <li><strong>Type Safety:</strong> Distinguishes between different kinds of validation targets</li>
  * <li><strong>Immutability:</strong> Thread-safe and cacheable identifier instances</li>
- * <li><strong>Equality Support:</strong> Proper equals/hashCode for use in collections</li>
+ * <li><strong>Interning:</strong> Field identifiers are canonical instances, one per field name</li>
+ * <li><strong>Fast Equality:</strong> A precomputed hashCode, and a reference check for interned identifiers</li>
+ * <li><strong>Dense Ids:</strong> Interned field identifiers carry a small, unique {@link #id()} usable as an array index</li>
  * <li><strong>Factory Methods:</strong> Convenient creation methods for each identifier type</li>
  * </ul>
  *
@@ -212,6 +218,18 @@ import lombok.EqualsAndHashCode;
  * }
  * }</pre>
  *
+ * <h3>Interning:</h3>
+ * <p>Field identifiers are interned: calling {@link #ofField(String)} twice with the same name
+ * returns the same instance, which is assigned a dense integer {@link #id()} in creation order.
+ * Field names normally come from a fixed set of properties, so the registry stays small; it is
+ * nevertheless capped at {@value #MAX_INTERNED_FIELDS} entries, after which new field names get
+ * ordinary instances. Path, index and custom identifiers are usually built from data, such as
+ * {@code "items[" + i + "]"}, and are never interned. Identifiers that are not interned report
+ * an id of {@code -1} and are retained only as long as they are referenced.</p>
+ *
+ * <p>Every identifier computes its hash code once, and equality compares type and value, so
+ * interned and non-interned identifiers can be mixed freely as map keys.</p>
+ *
  * @author Matej Šarić
  * @since 1.2.3
  * @see ValidationResult
@@ -219,7 +237,6 @@ import lombok.EqualsAndHashCode;
  * @see Validator
  * @see ValidationRule
  */
-@EqualsAndHashCode
 public class ValidationIdentifier {
 
     /**
@@ -242,6 +259,26 @@ public class ValidationIdentifier {
      */
     private static final byte TYPE_FIELD = 4;
 
+    /**
+     * The id reported by identifiers that are not interned.
+     */
+    private static final int NO_ID = -1;
+
+    /**
+     * Maximum number of interned field identifiers.
+     */
+    public static final int MAX_INTERNED_FIELDS = 4096;
+
+    /**
+     * Canonical field identifiers, keyed by value.
+     */
+    private static final ConcurrentMap<String, ValidationIdentifier> FIELDS = new ConcurrentHashMap<>();
+
+    /**
+     * Source of dense ids, incremented once per interned field identifier.
+     */
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
     /**
      * The string value that identifies the validation target.
      */
@@ -252,15 +289,54 @@ public class ValidationIdentifier {
      */
     private final byte type;
 
+    /**
+     * The dense, unique id assigned when this identifier was interned, or {@link #NO_ID}.
+     */
+    private final int id;
+
+    /**
+     * The hash code, computed once from the value and type.
+     */
+    private final int hash;
+
     /**
      * Private constructor to enforce use of factory methods.
      *
      * @param value the identifier value
      * @param type the identifier type
+     * @param id the dense id, or {@link #NO_ID} if the identifier is not interned
+     * @throws NullPointerException if value is null
      */
-    private ValidationIdentifier(String value, byte type) {
-        this.value = value;
+    private ValidationIdentifier(String value, byte type, int id) {
+        this.value = Objects.requireNonNull(value, "Identifier value must not be null");
         this.type = type;
+        this.id = id;
+        this.hash = 31 * value.hashCode() + type;
+    }
+
+    /**
+     * Returns the canonical field identifier for the value, creating and registering it on first use.
+     * Once the registry holds {@link #MAX_INTERNED_FIELDS} identifiers, unknown values get a new,
+     * non-interned identifier instead. The registry never shrinks, so a name that is not interned
+     * at that point never will be, and every identifier for a given field name either has the
+     * same id or has none.
+     *
+     * @param value the field name
+     * @return the canonical identifier, or a non-interned one if the registry is full
+     * @throws NullPointerException if value is null
+     */
+    private static ValidationIdentifier internField(final String value) {
+        Objects.requireNonNull(value, "Identifier value must not be null");
+        ValidationIdentifier identifier = FIELDS.get(value);
+        if (identifier != null) {
+            return identifier;
+        }
+        // The capacity is checked under the lock of the value's bin, so a name is never both
+        // interned and handed out without an id
+        identifier = FIELDS.computeIfAbsent(value, v -> FIELDS.size() >= MAX_INTERNED_FIELDS
+                ? null
+                : new ValidationIdentifier(v, TYPE_FIELD, NEXT_ID.getAndIncrement()));
+        return identifier != null ? identifier : new ValidationIdentifier(value, TYPE_FIELD, NO_ID);
     }
 
     /**
@@ -305,7 +381,7 @@ public class ValidationIdentifier {
      * @throws NullPointerException if value is null
      */
     public static ValidationIdentifier ofPath(String value) {
-        return new ValidationIdentifier(value, TYPE_PATH);
+        return new ValidationIdentifier(value, TYPE_PATH, NO_ID);
     }
 
     /**
@@ -351,7 +427,7 @@ public class ValidationIdentifier {
      * @throws NullPointerException if value is null
      */
     public static ValidationIdentifier ofIndex(String value) {
-        return new ValidationIdentifier(value, TYPE_INDEX);
+        return new ValidationIdentifier(value, TYPE_INDEX, NO_ID);
     }
 
     /**
@@ -404,7 +480,7 @@ public class ValidationIdentifier {
      * @throws NullPointerException if value is null
      */
     public static ValidationIdentifier ofCustom(String value) {
-        return new ValidationIdentifier(value, TYPE_CUSTOM);
+        return new ValidationIdentifier(value, TYPE_CUSTOM, NO_ID);
     }
 
     /**
@@ -457,7 +533,7 @@ public class ValidationIdentifier {
      * @throws NullPointerException if value is null
      */
     public static ValidationIdentifier ofField(String value) {
-        return new ValidationIdentifier(value, TYPE_FIELD);
+        return internField(value);
     }
 
     /**
@@ -549,4 +625,59 @@ public class ValidationIdentifier {
     public byte type() {
         return type;
     }
+
+    /**
+     * Returns the dense integer id of this identifier, or {@code -1} if it is not interned.
+     *
+     * <p>Ids are assigned consecutively, starting at zero, as field identifiers are interned, and
+     * are unique within the class loader. They are intended for indexing arrays or bit sets keyed
+     * by a known set of fields; they are not stable across JVM runs and should not be persisted.
+     * Path, index and custom identifiers, and field identifiers created after the registry is full,
+     * have no id.</p>
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationIdentifier nameId = ValidationIdentifier.ofField("name");
+     *
+     * assert nameId.id() == ValidationIdentifier.ofField("name").id();
+     * assert ValidationIdentifier.ofPath("name").id() == -1;
+     * }</pre>
+     *
+     * @return the dense id of this identifier, or {@code -1}
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * Compares this identifier to another object. Two identifiers are equal if they have the same
+     * type and value; interned identifiers are matched by reference before the value is compared.
+     *
+     * @param o the object to compare with
+     * @return true if o is an identifier of the same type and value
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ValidationIdentifier other)) {
+            return false;
+        }
+        if (hash != other.hash || type != other.type) {
+            return false;
+        }
+        // Two distinct interned identifiers never share a type and value
+        return (id == NO_ID || other.id == NO_ID) && value.equals(other.value);
+    }
+
+    /**
+     * Returns the hash code of this identifier, computed once at creation.
+     *
+     * @return the hash code
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
 }
\ No newline at end of file
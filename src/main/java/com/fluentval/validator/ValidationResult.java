@@ -1,14 +1,23 @@
 package com.fluentval.validator;
 
 import com.fluentval.validator.metadata.ValidationMetadata;
-import lombok.Getter;
-import lombok.ToString;
 
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Represents the result of validation operations, containing all validation failures
@@ -23,7 +32,8 @@ import java.util.function.Consumer;
  * <ul>
  * <li><strong>Failure Collection:</strong> Accumulates validation failures as they occur</li>
  * <li><strong>Identifier-based Access:</strong> Quick lookup of failures by field identifier</li>
- * <li><strong>Immutable Access:</strong> All getter methods return defensive copies</li>
+ * <li><strong>Read-Only Views:</strong> Accessors return unmodifiable live views, so reading never copies</li>
+ * <li><strong>Lightweight Success Path:</strong> Internal collections are only allocated once the first failure is recorded</li>
  * <li><strong>Factory Methods:</strong> Convenient creation of success and failure results</li>
  * <li><strong>Metadata Enrichment:</strong> Support for enhancing failure metadata post-validation</li>
  * </ul>
@@ -213,13 +223,99 @@ public class ValidationResult {
 
     /**
      * List of all validation failures in the order they were added.
+     * Allocated on the first failure, so results of successful validations stay allocation-free.
      */
-    private final List<Failure> failures = new ArrayList<>();
+    private List<Failure> failures;
 
     /**
      * Map of validation failures organized by their identifier for quick lookup.
+     * Allocated together with {@link #failures} on the first failure.
      */
-    private final Map<ValidationIdentifier, List<Failure>> failuresByIdentifier = new HashMap<>();
+    private Map<ValidationIdentifier, IdentifierFailures> failuresByIdentifier;
+
+    /**
+     * Bit set of the dense {@link ValidationIdentifier#id() ids} of the failing interned field identifiers.
+     * Ids below 64 are kept in this word; higher ids in {@link #overflowIdentifierBits}.
+     */
+    private long identifierBits;
+
+    /**
+     * Bits for ids from 64 upwards, word {@code i} holding ids {@code 64 * (i + 1)} to {@code 64 * (i + 2) - 1}.
+     * Allocated when the first such id fails.
+     */
+    private long[] overflowIdentifierBits;
+
+    /**
+     * The context of the validation run, created on first use unless supplied.
+     */
+    private ValidationContext context;
+
+    /**
+     * Result whose context this result shares, resolved and cleared on first use of the context.
+     */
+    private ValidationResult contextSource;
+
+    /**
+     * Creates an empty validation result. A context on the system default clock is
+     * created when the run first needs the current time.
+     */
+    public ValidationResult() {
+    }
+
+    /**
+     * Creates an empty validation result belonging to the same run as the given result.
+     * The context is taken from that result only when this result first needs it, so
+     * no context is created for runs that never read the time.
+     *
+     * @param contextSource the result whose context this result shares
+     * @throws NullPointerException if contextSource is null
+     */
+    ValidationResult(final ValidationResult contextSource) {
+        this.contextSource = Objects.requireNonNull(contextSource, "Context source must not be null");
+    }
+
+    /**
+     * Creates an empty validation result for a run using the given context.
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * Clock clock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneOffset.UTC);
+     * ValidationResult result = new ValidationResult(ValidationContext.of(clock));
+     *
+     * DateTimeValidationRules.<LocalDate>past()
+     *     .validate(LocalDate.of(2024, 2, 1), result, ValidationIdentifier.ofField("birthDate"));
+     * // fails: 2024-02-01 is not before 2024-01-15
+     * }</pre>
+     *
+     * @param context the context of the validation run
+     * @throws NullPointerException if context is null
+     */
+    public ValidationResult(final ValidationContext context) {
+        this.context = Objects.requireNonNull(context, "Validation context must not be null");
+    }
+
+    /**
+     * Returns the context of the validation run this result belongs to, creating one on the
+     * system default clock if none was supplied or inherited.
+     *
+     * <p>Rules that depend on the current time read it from this context, so all of them
+     * see the same instant during a run.</p>
+     *
+     * @return the validation context
+     */
+    public ValidationContext getContext() {
+        ValidationContext current = context;
+        if (current == null) {
+            if (contextSource != null) {
+                current = contextSource.getContext();
+                contextSource = null;
+            } else {
+                current = ValidationContext.systemDefault();
+            }
+            context = current;
+        }
+        return current;
+    }
 
     /**
      * Adds a validation failure to this result.
@@ -242,10 +338,20 @@ public class ValidationResult {
      * @throws NullPointerException if failure is null
      */
     public void addFailure(final Failure failure) {
+        if (failures == null) {
+            failures = new ArrayList<>();
+            failuresByIdentifier = new HashMap<>();
+        }
+        ValidationIdentifier identifier = failure.getIdentifier();
+        failure.recordedIn(getContext());
         failures.add(failure);
         failuresByIdentifier
-                .computeIfAbsent(failure.getValidationMetadata().getIdentifier(), k -> new ArrayList<>())
+                .computeIfAbsent(identifier, k -> new IdentifierFailures(failures.size() - 1))
                 .add(failure);
+        int id = identifier.id();
+        if (id >= 0) {
+            setIdentifierBit(id);
+        }
     }
 
     /**
@@ -270,7 +376,7 @@ public class ValidationResult {
      * @return true if there are validation failures, false if validation was successful
      */
     public boolean hasErrors() {
-        return !failures.isEmpty();
+        return failures != null && !failures.isEmpty();
     }
 
     /**
@@ -279,6 +385,11 @@ public class ValidationResult {
      * <p>This method enables field-specific error checking, which is useful for
      * conditional processing, UI error display, and field-level validation logic.</p>
      *
+     * <p>For interned field identifiers the check is a single bit test on the identifier's dense
+     * {@link ValidationIdentifier#id() id}, which keeps dependency checks such as
+     * {@link ValidationRule#and(ValidationRule)} cheap. Path, index and custom identifiers, which
+     * have no id, are looked up in the identifier map by their precomputed hash code.</p>
+     *
      * <p>Example usage:</p>
      * <pre>{@code
      * ValidationResult result = validateUser(user);
@@ -304,15 +415,20 @@ public class ValidationResult {
      * @return true if there are failures for the specified identifier, false otherwise
      */
     public boolean hasErrorForIdentifier(final ValidationIdentifier identifier) {
-        return failuresByIdentifier.containsKey(identifier) &&
-                !failuresByIdentifier.get(identifier).isEmpty();
+        int id = identifier.id();
+        if (id >= 0) {
+            return hasIdentifierBit(id);
+        }
+        return failuresByIdentifier != null && failuresByIdentifier.containsKey(identifier);
     }
 
     /**
-     * Returns a defensive copy of all validation failures.
+     * Returns an unmodifiable, live view of all validation failures.
      *
      * <p>The returned list contains failures in the order they were added to the result.
-     * Modifying the returned list will not affect the internal state of this ValidationResult.</p>
+     * It is not a copy: failures added to this result later become visible through the
+     * view, and any attempt to modify it throws {@link UnsupportedOperationException}.
+     * Callers that need an independent snapshot can copy it, e.g. {@code new ArrayList<>(view)}.</p>
      *
      * <p>Example usage:</p>
      * <pre>{@code
@@ -332,17 +448,128 @@ public class ValidationResult {
      * }
      * }</pre>
      *
-     * @return a new list containing all validation failures
+     * @return an unmodifiable view of all validation failures
+     * @see #failureCount()
+     * @see #failureAt(int)
+     * @see #forEachFailure(Consumer)
      */
     public List<Failure> getFailures() {
-        return new ArrayList<>(failures);
+        return new FailuresView();
     }
 
     /**
-     * Returns a defensive copy of all validation failures for the specified identifier.
+     * Returns the number of validation failures in this result.
      *
-     * <p>If no failures exist for the identifier, an empty list is returned.
-     * The returned list contains failures in the order they were added.</p>
+     * <p>This is equivalent to {@code getFailures().size()} without creating a view.</p>
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationResult result = performValidation();
+     *
+     * if (result.failureCount() > 10) {
+     *     System.out.println("Too many validation errors, aborting import");
+     * }
+     * }</pre>
+     *
+     * @return the number of validation failures
+     */
+    public int failureCount() {
+        return failures != null ? failures.size() : 0;
+    }
+
+    /**
+     * Returns the validation failure at the given position, in the order failures were added.
+     *
+     * <p>Together with {@link #failureCount()} this allows indexed iteration without
+     * creating a view or an iterator:</p>
+     * <pre>{@code
+     * for (int i = 0; i < result.failureCount(); i++) {
+     *     ValidationMetadata metadata = result.failureAt(i).getValidationMetadata();
+     *     System.out.println(metadata.getIdentifier().value() + ": " + metadata.getErrorCode());
+     * }
+     * }</pre>
+     *
+     * @param index the position of the failure
+     * @return the failure at the given position
+     * @throws IndexOutOfBoundsException if index is negative or not less than {@link #failureCount()}
+     */
+    public Failure failureAt(final int index) {
+        return ownFailureAt(index);
+    }
+
+    /**
+     * Performs the given action for each validation failure, in the order failures were added.
+     *
+     * <p>Only the failures present when this method is called are visited, so the action
+     * may safely add failures to this or another result.</p>
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationResult combined = new ValidationResult();
+     * addressResult.forEachFailure(combined::addFailure);
+     * paymentResult.forEachFailure(combined::addFailure);
+     * }</pre>
+     *
+     * @param action the action to perform for each failure
+     * @throws NullPointerException if action is null
+     */
+    public void forEachFailure(final Consumer<? super Failure> action) {
+        if (failures == null) {
+            return;
+        }
+        for (int i = 0, count = failures.size(); i < count; i++) {
+            action.accept(failures.get(i));
+        }
+    }
+
+    /**
+     * Returns a mark identifying the current end of this result's failure list.
+     *
+     * <p>A mark is passed to {@link #failuresSince(int)} to access exactly the failures that were
+     * added after it was taken. This lets wrapping rules post-process the failures produced by the
+     * rule they wrap in time proportional to the number of new failures, regardless of how many
+     * failures the result already holds.</p>
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationRule<String> auditedRule = (value, result, identifier) -> {
+     *     int mark = result.mark();
+     *     StringValidationRules.notBlank().validate(value, result, identifier);
+     *     result.failuresSince(mark).forEach(failure ->
+     *         failure.withEnrichedMetadata(meta -> meta.setSource("audit")));
+     * };
+     * }</pre>
+     *
+     * @return a mark for use with {@link #failuresSince(int)}
+     */
+    public int mark() {
+        return failureCount();
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the failures added since the given mark was taken.
+     *
+     * <p>No failures are copied. The view starts at the mark and always extends to the current
+     * end of the failure list, so it also reflects failures added after it was obtained.</p>
+     *
+     * @param mark a mark previously obtained from {@link #mark()} on this result
+     * @return an unmodifiable view of the failures added since the mark
+     * @throws IndexOutOfBoundsException if mark is negative or greater than {@link #failureCount()}
+     * @see #mark()
+     */
+    public List<Failure> failuresSince(final int mark) {
+        if (mark < 0 || mark > failureCount()) {
+            throw new IndexOutOfBoundsException("Mark " + mark + " out of bounds for length " + failureCount());
+        }
+        return new FailuresSinceView(mark);
+    }
+
+    /**
+     * Returns an unmodifiable, live view of all validation failures for the specified identifier.
+     *
+     * <p>If no failures exist for the identifier, the view is empty.
+     * The returned list contains failures in the order they were added, and reflects
+     * failures for the identifier that are added to this result later.</p>
      *
      * <p>Example usage:</p>
      * <pre>{@code
@@ -363,21 +590,18 @@ public class ValidationResult {
      * }</pre>
      *
      * @param identifier the validation identifier to get failures for
-     * @return a new list containing failures for the specified identifier, or empty list if none exist
+     * @return an unmodifiable view of the failures for the specified identifier
      */
     public List<Failure> getErrorsForIdentifier(final ValidationIdentifier identifier) {
-        return failuresByIdentifier.containsKey(identifier)
-                ? new ArrayList<>(failuresByIdentifier.get(identifier))
-                : List.of();
+        return new IdentifierFailuresView(identifier);
     }
 
     /**
-     * Returns a defensive copy of all failures organized by their identifiers.
+     * Returns an unmodifiable, live view of all failures organized by their identifiers.
      *
      * <p>This method provides a complete view of all validation failures grouped by
-     * the field or property that failed validation. Both the outer map and inner
-     * lists are defensive copies that can be safely modified without affecting
-     * this ValidationResult.</p>
+     * the field or property that failed validation. Neither the map nor the per-identifier
+     * lists are copied; both are read-only and reflect failures added to this result later.</p>
      *
      * <p>Example usage:</p>
      * <pre>{@code
@@ -397,16 +621,14 @@ public class ValidationResult {
      *     });
      * }
      *
-     * // Safe to modify returned collections
-     * errorsByField.clear(); // Does not affect the ValidationResult
+     * // Copy the view when an independent snapshot is needed
+     * Map<ValidationIdentifier, List<ValidationResult.Failure>> snapshot = new HashMap<>(errorsByField);
      * }</pre>
      *
-     * @return a new map containing all failures organized by identifier
+     * @return an unmodifiable view of all failures organized by identifier
      */
     public Map<ValidationIdentifier, List<Failure>> getFailuresByIdentifier() {
-        Map<ValidationIdentifier, List<Failure>> copy = new HashMap<>();
-        failuresByIdentifier.forEach((k, v) -> copy.put(k, new ArrayList<>(v)));
-        return copy;
+        return new FailuresByIdentifierView();
     }
 
     /**
@@ -483,6 +705,244 @@ public class ValidationResult {
         return result;
     }
 
+    /**
+     * Returns the failure at the given position among the failures recorded directly in this result.
+     *
+     * @param index the position of the failure
+     * @return the failure at the given position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private Failure ownFailureAt(final int index) {
+        if (failures == null) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length 0");
+        }
+        return failures.get(index);
+    }
+
+    /**
+     * Returns the failures recorded for the identifier directly in this result.
+     *
+     * @param identifier the identifier to look up
+     * @return the internal list for the identifier, or null if there is none
+     */
+    private List<Failure> ownFailuresFor(final Object identifier) {
+        return failuresByIdentifier != null ? failuresByIdentifier.get(identifier) : null;
+    }
+
+    /**
+     * Returns a copy of the identifier bit set in which word {@code i} holds the ids
+     * {@code 64 * i} to {@code 64 * i + 63}. Scoped results take it as the bits they inherit.
+     *
+     * @return the identifier bits of this result
+     */
+    long[] copyIdentifierBits() {
+        int overflow = overflowIdentifierBits != null ? overflowIdentifierBits.length : 0;
+        long[] bits = new long[1 + overflow];
+        bits[0] = identifierBits;
+        if (overflow > 0) {
+            System.arraycopy(overflowIdentifierBits, 0, bits, 1, overflow);
+        }
+        return bits;
+    }
+
+    /**
+     * Tests an id in a bit set returned by {@link #copyIdentifierBits()}.
+     *
+     * @param bits the identifier bits
+     * @param id the dense id of the identifier
+     * @return true if the bit of the id is set
+     */
+    static boolean hasIdentifierBit(final long[] bits, final int id) {
+        int word = id >>> 6;
+        return word < bits.length && (bits[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns the position, in the order failures were added, of the first failure recorded
+     * directly in this result for the identifier.
+     *
+     * @param identifier the identifier to look up
+     * @return the position of its first failure, or -1 if it has none
+     */
+    int firstFailureIndex(final ValidationIdentifier identifier) {
+        IdentifierFailures identifierFailures = failuresByIdentifier != null ? failuresByIdentifier.get(identifier) : null;
+        return identifierFailures != null ? identifierFailures.firstIndex : -1;
+    }
+
+    /**
+     * Records that the interned field identifier with the given id has failed.
+     *
+     * @param id the dense id of the identifier
+     */
+    private void setIdentifierBit(final int id) {
+        if (id < Long.SIZE) {
+            identifierBits |= 1L << id;
+            return;
+        }
+        int word = (id >>> 6) - 1;
+        if (overflowIdentifierBits == null || word >= overflowIdentifierBits.length) {
+            overflowIdentifierBits = overflowIdentifierBits == null
+                    ? new long[word + 1]
+                    : Arrays.copyOf(overflowIdentifierBits, Math.max(word + 1, 2 * overflowIdentifierBits.length));
+        }
+        overflowIdentifierBits[word] |= 1L << id;
+    }
+
+    /**
+     * Tests whether the interned field identifier with the given id has failed.
+     *
+     * @param id the dense id of the identifier
+     * @return true if a failure was recorded for the identifier
+     */
+    private boolean hasIdentifierBit(final int id) {
+        if (id < Long.SIZE) {
+            return (identifierBits & (1L << id)) != 0;
+        }
+        int word = (id >>> 6) - 1;
+        return overflowIdentifierBits != null && word < overflowIdentifierBits.length
+                && (overflowIdentifierBits[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * The failures of one identifier, remembering the position of the first of them in the
+     * failure list.
+     */
+    private static final class IdentifierFailures extends ArrayList<Failure> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int firstIndex;
+
+        private IdentifierFailures(final int firstIndex) {
+            this.firstIndex = firstIndex;
+        }
+    }
+
+    /**
+     * Read-only view over the failures recorded directly in this result.
+     * The underlying list is resolved on every access, so the view stays live even if
+     * it was created before the first failure was recorded.
+     */
+    private final class FailuresView extends AbstractList<Failure> implements RandomAccess {
+
+        @Override
+        public Failure get(final int index) {
+            return ownFailureAt(index);
+        }
+
+        @Override
+        public int size() {
+            return failures != null ? failures.size() : 0;
+        }
+    }
+
+    /**
+     * Read-only view over the failures added after a mark. Uses the overridable accessors,
+     * so marks on a {@link ScopedValidationResult} refer to its combined failure list.
+     */
+    private final class FailuresSinceView extends AbstractList<Failure> implements RandomAccess {
+
+        private final int mark;
+
+        private FailuresSinceView(final int mark) {
+            this.mark = mark;
+        }
+
+        @Override
+        public Failure get(final int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+            }
+            return failureAt(mark + index);
+        }
+
+        @Override
+        public int size() {
+            return failureCount() - mark;
+        }
+    }
+
+    /**
+     * Read-only view over the failures recorded for a single identifier.
+     */
+    private final class IdentifierFailuresView extends AbstractList<Failure> implements RandomAccess {
+
+        private final ValidationIdentifier identifier;
+
+        private IdentifierFailuresView(final ValidationIdentifier identifier) {
+            this.identifier = identifier;
+        }
+
+        @Override
+        public Failure get(final int index) {
+            List<Failure> identifierFailures = ownFailuresFor(identifier);
+            if (identifierFailures == null) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length 0");
+            }
+            return identifierFailures.get(index);
+        }
+
+        @Override
+        public int size() {
+            List<Failure> identifierFailures = ownFailuresFor(identifier);
+            return identifierFailures != null ? identifierFailures.size() : 0;
+        }
+    }
+
+    /**
+     * Read-only view over the failures of this result grouped by identifier.
+     */
+    private final class FailuresByIdentifierView extends AbstractMap<ValidationIdentifier, List<Failure>> {
+
+        @Override
+        public List<Failure> get(final Object key) {
+            List<Failure> identifierFailures = ownFailuresFor(key);
+            return identifierFailures != null ? Collections.unmodifiableList(identifierFailures) : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return ownFailuresFor(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return failuresByIdentifier != null ? failuresByIdentifier.size() : 0;
+        }
+
+        @Override
+        public Set<Entry<ValidationIdentifier, List<Failure>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<ValidationIdentifier, List<Failure>>> iterator() {
+                    if (failuresByIdentifier == null) {
+                        return Collections.emptyIterator();
+                    }
+                    Iterator<Entry<ValidationIdentifier, IdentifierFailures>> entries =
+                            failuresByIdentifier.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<ValidationIdentifier, List<Failure>> next() {
+                            Entry<ValidationIdentifier, IdentifierFailures> entry = entries.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(),
+                                    Collections.unmodifiableList(entry.getValue()));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return FailuresByIdentifierView.this.size();
+                }
+            };
+        }
+    }
+
     /**
      * Represents a single validation failure with associated metadata.
      *
@@ -494,6 +954,14 @@ public class ValidationResult {
      * added after the failure is created. This is useful for adding contextual
      * information or modifying failure properties based on validation results.</p>
      *
+     * <h3>Lazy Metadata</h3>
+     * <p>A failure can be recorded either with ready-made metadata or with just the failing
+     * identifier and a factory for the metadata. In the latter case the metadata object, with
+     * its message parameters, is only built the first time {@link #getValidationMetadata()} or
+     * {@link #withEnrichedMetadata(Consumer)} is called. Callers that only check
+     * {@link ValidationResult#hasErrors()} or count failures never pay for it. The built-in
+     * rules record their failures lazily.</p>
+     *
      * <p>Example usage:</p>
      * <pre>{@code
      * // Create a failure
@@ -502,9 +970,15 @@ public class ValidationResult {
      * );
      * ValidationResult.Failure failure = new ValidationResult.Failure(metadata);
      *
+     * // Create a failure whose metadata is built on first access
+     * ValidationResult.Failure lazyFailure = new ValidationResult.Failure(
+     *     ValidationIdentifier.ofField("username"),
+     *     StringValidationMetadata::notBlank
+     * );
+     *
      * // Access failure information
      * String errorCode = failure.getValidationMetadata().getErrorCode();
-     * String fieldName = failure.getValidationMetadata().getIdentifier().value();
+     * String fieldName = failure.getIdentifier().value();
      *
      * // Enrich with additional metadata
      * failure.withEnrichedMetadata(meta -> {
@@ -513,14 +987,29 @@ public class ValidationResult {
      * });
      * }</pre>
      */
-    @Getter
-    @ToString
     public static final class Failure {
 
         /**
-         * The validation metadata containing details about this failure.
+         * The identifier of the value that failed validation.
+         */
+        private final ValidationIdentifier identifier;
+
+        /**
+         * Factory for the metadata, cleared once the metadata has been built.
+         */
+        private Function<ValidationIdentifier, ? extends ValidationMetadata> metadataFactory;
+
+        /**
+         * The validation metadata containing details about this failure, built on first access
+         * when the failure was created with a metadata factory.
+         */
+        private ValidationMetadata validationMetadata;
+
+        /**
+         * Timestamp of the run the failure was first recorded in, applied to the metadata
+         * as its validation time.
          */
-        private final ValidationMetadata validationMetadata;
+        private Instant recordedAt;
 
         /**
          * Creates a new Failure with the specified validation metadata.
@@ -529,7 +1018,79 @@ public class ValidationResult {
          * @throws NullPointerException if validationMetadata is null
          */
         public Failure(ValidationMetadata validationMetadata) {
-            this.validationMetadata = validationMetadata;
+            this.validationMetadata = Objects.requireNonNull(validationMetadata,
+                    "Validation metadata must not be null");
+            this.identifier = validationMetadata.getIdentifier();
+        }
+
+        /**
+         * Creates a new Failure whose metadata is built from the identifier on first access.
+         *
+         * <p>The factory should only capture the rule's arguments, so recording the failure
+         * costs a single small object.</p>
+         *
+         * @param identifier the identifier of the value that failed validation
+         * @param metadataFactory function that creates the metadata for the identifier
+         * @throws NullPointerException if identifier or metadataFactory is null
+         */
+        public Failure(ValidationIdentifier identifier,
+                       Function<ValidationIdentifier, ? extends ValidationMetadata> metadataFactory) {
+            this.identifier = Objects.requireNonNull(identifier, "Identifier must not be null");
+            this.metadataFactory = Objects.requireNonNull(metadataFactory, "Metadata factory must not be null");
+        }
+
+        /**
+         * Returns the identifier of the value that failed validation without building the metadata.
+         *
+         * @return the failing identifier
+         */
+        public ValidationIdentifier getIdentifier() {
+            return identifier;
+        }
+
+        /**
+         * Returns the validation metadata of this failure, building it on first access
+         * if the failure was recorded lazily.
+         *
+         * @return the validation metadata
+         */
+        public ValidationMetadata getValidationMetadata() {
+            ValidationMetadata metadata = validationMetadata;
+            if (metadata == null) {
+                metadata = Objects.requireNonNull(metadataFactory.apply(identifier),
+                        "Metadata factory must not return null");
+                validationMetadata = metadata;
+                metadataFactory = null;
+                stampValidationTime(metadata);
+            }
+            return metadata;
+        }
+
+        /**
+         * Captures the timestamp of the run the failure is recorded in. Only the first run counts,
+         * so failures merged into other results keep their original time. The time is read here,
+         * not when lazy metadata is first accessed, so it does not depend on when the failure is read.
+         *
+         * @param context the context of the run
+         */
+        void recordedIn(final ValidationContext context) {
+            if (recordedAt == null) {
+                recordedAt = context.now();
+                if (validationMetadata != null) {
+                    stampValidationTime(validationMetadata);
+                }
+            }
+        }
+
+        /**
+         * Sets the validation time to the recorded timestamp unless one was set explicitly.
+         *
+         * @param metadata the metadata to stamp
+         */
+        private void stampValidationTime(final ValidationMetadata metadata) {
+            if (metadata.getValidationTime() == null && recordedAt != null) {
+                metadata.setValidationTime(recordedAt);
+            }
         }
 
         /**
@@ -541,7 +1102,7 @@ public class ValidationResult {
          *
          * <p>The enricher consumer receives the ValidationMetadata object and can modify
          * its properties directly. The same Failure instance is returned to support
-         * method chaining.</p>
+         * method chaining. A lazily recorded failure builds its metadata first.</p>
          *
          * <p>Example usage:</p>
          * <pre>{@code
@@ -571,8 +1132,13 @@ public class ValidationResult {
          * @see ValidationMetadata#enrich(Consumer)
          */
         public Failure withEnrichedMetadata(Consumer<ValidationMetadata> enricher) {
-            validationMetadata.enrich(enricher);
+            getValidationMetadata().enrich(enricher);
             return this;
         }
+
+        @Override
+        public String toString() {
+            return "ValidationResult.Failure(validationMetadata=" + getValidationMetadata() + ")";
+        }
     }
 }
\ No newline at end of file
@@ -539,13 +539,11 @@ public interface ValidationRule<T> {
      */
     default ValidationRule<T> withMetadata(Consumer<ValidationMetadata> enricher) {
         return (value, result, identifier) -> {
-            int initialFailureCount = result.getFailures().size();
+            int mark = result.mark();
 
             validate(value, result, identifier);
 
-            for (int i = initialFailureCount; i < result.getFailures().size(); i++) {
-                result.getFailures().get(i).withEnrichedMetadata(enricher);
-            }
+            result.failuresSince(mark).forEach(failure -> failure.withEnrichedMetadata(enricher));
         };
     }
 
@@ -1,9 +1,12 @@
 package com.fluentval.validator;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * A fluent validation framework that provides a chainable API for validating objects and their properties.
@@ -118,14 +121,22 @@ import java.util.function.Predicate;
  * @see ValidationResult
  * @see ValidationRule
  * @see ValidationIdentifier
+ * @see ValidatorSchema
  */
 @Getter
 public class Validator<T> {
 
     /**
-     * The target object being validated.
+     * The target object being validated, resolved from {@link #targetSupplier} on first access
+     * when the validator was created for a deferred target.
      */
-    private final T target;
+    private T target;
+
+    /**
+     * Supplier of a target that has not been resolved yet, cleared once it has been called.
+     */
+    @Getter(AccessLevel.NONE)
+    private Supplier<? extends T> targetSupplier;
 
     /**
      * The result object that accumulates validation failures.
@@ -162,6 +173,36 @@ public class Validator<T> {
         this.shortCircuit = shortCircuit;
     }
 
+    /**
+     * Creates a non-short-circuited Validator whose target is obtained from the supplier
+     * the first time it is needed, so a nested validator does not force its parent property
+     * to be extracted before a nested rule runs.
+     *
+     * @param <T> the type of object to validate
+     * @param targetSupplier supplier of the object to be validated
+     * @param result the ValidationResult to accumulate failures
+     * @return a new Validator instance for the deferred target
+     */
+    static <T> Validator<T> deferred(final Supplier<? extends T> targetSupplier, final ValidationResult result) {
+        Validator<T> validator = new Validator<>(null, result, false);
+        validator.targetSupplier = targetSupplier;
+        return validator;
+    }
+
+    /**
+     * Returns the target object being validated, resolving a deferred target on first access.
+     *
+     * @return the target object, may be null
+     */
+    public T getTarget() {
+        Supplier<? extends T> supplier = targetSupplier;
+        if (supplier != null) {
+            target = supplier.get();
+            targetSupplier = null;
+        }
+        return target;
+    }
+
     /**
      * Creates a new Validator instance for the specified target object.
      * This is the main entry point for starting a validation chain.
@@ -186,6 +227,31 @@ public class Validator<T> {
         return new Validator<>(target);
     }
 
+    /**
+     * Creates a new Validator instance for the specified target object whose run uses
+     * the given validation context, for example one with a fixed clock.
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * Clock clock = Clock.fixed(Instant.parse("2024-01-15T10:00:00Z"), ZoneOffset.UTC);
+     *
+     * ValidationResult result = Validator.of(booking, ValidationContext.of(clock))
+     *     .property(ValidationIdentifier.ofField("checkIn"), Booking::getCheckIn)
+     *         .validate(DateTimeValidationRules.presentOrFuture())
+     *         .end()
+     *     .getResult();
+     * }</pre>
+     *
+     * @param <T> the type of object to validate
+     * @param target the object to be validated
+     * @param context the context of the validation run
+     * @return a new Validator instance for the target object
+     * @throws NullPointerException if context is null
+     */
+    public static <T> Validator<T> of(final T target, final ValidationContext context) {
+        return new Validator<>(target, new ValidationResult(context), false);
+    }
+
     /**
      * Creates a new Validator instance that uses an existing ValidationResult as its parent.
      * This is useful for combining validation results from multiple validation chains.
@@ -226,6 +292,10 @@ public class Validator<T> {
      *
      * <p>This method is the primary way to start validating individual properties of an object.</p>
      *
+     * <p>Extraction is deferred until the first rule of the property actually runs. Properties
+     * whose rules are all skipped, for example because the chain has been short-circuited,
+     * never invoke the extractor.</p>
+     *
      * <p>Example usage:</p>
      * <pre>{@code
      * ValidationResult result = Validator.of(user)
@@ -247,7 +317,7 @@ public class Validator<T> {
      * @see ValidationIdentifier
      */
     public <V> PropertyValidator<T, V> property(final ValidationIdentifier identifier, final Function<T, V> extractor) {
-        return new PropertyValidator<>(this, identifier, target != null ? extractor.apply(target) : null);
+        return new PropertyValidator<>(this, identifier, extractor);
     }
 
     /**
@@ -276,7 +346,7 @@ public class Validator<T> {
      * @see ValidationIdentifier
      */
     public <V> PropertyValidator<T, V> property(final ValidationIdentifier identifier, final V value) {
-        return new PropertyValidator<>(this, identifier, target != null ? value : null);
+        return new PropertyValidator<>(this, identifier, ignored -> value);
     }
 
     /**
@@ -310,11 +380,11 @@ public class Validator<T> {
      * @see ValidationIdentifier
      */
     public <V> Validator<T> validateWithCircuitBreaker(final V value, final ValidationIdentifier identifier, final ValidationRule<V> rule) {
-        ValidationResult tempResult = new ValidationResult();
+        ValidationResult tempResult = new ValidationResult(result);
         rule.validate(value, tempResult, identifier);
 
         if (tempResult.hasErrors()) {
-            tempResult.getFailures().forEach(result::addFailure);
+            tempResult.forEachFailure(result::addFailure);
             shortCircuit = true;
         }
 
@@ -405,7 +475,10 @@ public class Validator<T> {
      */
     public Validator<T> mergeScopedFailures(Validator<?> otherValidator) {
         if (otherValidator.getResult() instanceof ScopedValidationResult scopedResult) {
-            scopedResult.getScopedFailures().forEach(this.result::addFailure);
+            List<ValidationResult.Failure> scopedFailures = scopedResult.getScopedFailures();
+            for (int i = 0, count = scopedFailures.size(); i < count; i++) {
+                this.result.addFailure(scopedFailures.get(i));
+            }
         }
         return this;
     }
@@ -0,0 +1,540 @@
+package com.fluentval.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A compiled, immutable validation plan that can be built once and applied to any number of
+ * target objects.
+ *
+ * <p>Where {@link Validator} builds its property chain anew for every validated object,
+ * ValidatorSchema separates the description of the validation graph from its execution.
+ * The graph is described once through a fluent {@link Builder} that mirrors the
+ * {@link Validator}/{@link PropertyValidator} API, and {@link Builder#build()} freezes it into
+ * an immutable plan. Each call to {@link #validate(Object)} then only walks that plan: no
+ * {@code Validator} or {@code PropertyValidator} instances are created and rule factories such as
+ * {@code StringValidationRules.maxLength(255)} are never re-invoked.</p>
+ *
+ * <h3>Key Features:</h3>
+ * <ul>
+ * <li><strong>Build Once:</strong> Rules are instantiated a single time, when the schema is described</li>
+ * <li><strong>Thread Safety:</strong> A built schema is immutable and can be shared across threads,
+ * provided the rules it contains are stateless (as all built-in rules are)</li>
+ * <li><strong>Familiar API:</strong> Properties, conditional rules, dependencies and short-circuiting
+ * follow the same semantics as {@link Validator}</li>
+ * <li><strong>Nested Properties:</strong> Properties of property values can be described inline</li>
+ * </ul>
+ *
+ * <h3>Usage Examples:</h3>
+ *
+ * <p><b>Defining and Applying a Schema:</b>
+ * <pre>{@code
+ * public class UserValidation {
+ *
+ *     // Built once, e.g. at application startup
+ *     private static final ValidatorSchema<User> USER_SCHEMA = ValidatorSchema.<User>builder()
+ *         .property(ValidationIdentifier.ofField("name"), User::getName)
+ *             .validate(StringValidationRules.notBlank())
+ *             .validate(StringValidationRules.maxLength(255))
+ *             .end()
+ *         .property(ValidationIdentifier.ofField("email"), User::getEmail)
+ *             .validate(StringValidationRules.notBlank())
+ *             .validateIfNoError(StringValidationRules.matches("^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$"))
+ *             .end()
+ *         .build();
+ *
+ *     // Applied on every request without rebuilding the validation chain
+ *     public ValidationResult validate(User user) {
+ *         return USER_SCHEMA.validate(user);
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p><b>Nested Properties and Short-Circuiting:</b>
+ * <pre>{@code
+ * ValidatorSchema<Order> orderSchema = ValidatorSchema.<Order>builder()
+ *     .property(ValidationIdentifier.ofField("orderNumber"), Order::getOrderNumber)
+ *         .validate(StringValidationRules.notBlank())
+ *         .end()
+ *     .shortCircuitIfErrors() // Skip the rest of the plan if the order number is invalid
+ *     .property(ValidationIdentifier.ofField("shippingAddress"), Order::getShippingAddress)
+ *         .validate(CommonValidationRules.notNull())
+ *         .shortCircuitIfErrors()
+ *         .property(ValidationIdentifier.ofPath("shippingAddress.city"), Address::getCity)
+ *             .validate(StringValidationRules.notBlank())
+ *             .end()
+ *         .end()
+ *     .build();
+ * }</pre>
+ *
+ * <p><b>Validating into an Existing Result:</b>
+ * <pre>{@code
+ * ValidationResult result = new ValidationResult();
+ * orderSchema.validate(order, result);
+ * addressSchema.validate(order.getBillingAddress(), result);
+ * }</pre>
+ *
+ * @param <T> the type of object validated by this schema
+ * @author Matej Šarić
+ * @since 1.2.3
+ * @see Validator
+ * @see ValidationRule
+ * @see ValidationResult
+ */
+public final class ValidatorSchema<T> {
+
+    /**
+     * The frozen execution plan, applied in declaration order.
+     */
+    private final List<Step<T>> steps;
+
+    /**
+     * Creates a new schema from the steps collected by a builder.
+     * The steps are copied, so later changes to the builder do not affect this schema.
+     *
+     * @param steps the steps describing this schema
+     */
+    private ValidatorSchema(final List<Step<T>> steps) {
+        this.steps = List.copyOf(steps);
+    }
+
+    /**
+     * Creates a new builder for describing a validation schema.
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidatorSchema<User> schema = ValidatorSchema.<User>builder()
+     *     .property(ValidationIdentifier.ofField("name"), User::getName)
+     *         .validate(StringValidationRules.notBlank())
+     *         .end()
+     *     .build();
+     * }</pre>
+     *
+     * @param <T> the type of object validated by the schema
+     * @return a new, empty schema builder
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Validates the target object against this schema and returns a new result.
+     *
+     * <p>As with {@link Validator#of(Object)}, a null target is not rejected: property extractors
+     * are not invoked and every property is validated as a null value.</p>
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationResult result = USER_SCHEMA.validate(user);
+     *
+     * if (result.hasErrors()) {
+     *     result.getFailures().forEach(failure ->
+     *         System.out.println(failure.getValidationMetadata().getErrorCode()));
+     * }
+     * }</pre>
+     *
+     * @param target the object to validate
+     * @return a new ValidationResult containing the failures found
+     */
+    public ValidationResult validate(final T target) {
+        return validate(target, new ValidationResult());
+    }
+
+    /**
+     * Validates the target object against this schema, adding any failures to the given result.
+     *
+     * <p>This allows several schemas to contribute to a single result, or a schema to be applied
+     * within a {@link ScopedValidationResult}.</p>
+     *
+     * @param target the object to validate
+     * @param result the result that collects the validation failures
+     * @return the given result, for convenience
+     * @throws IllegalArgumentException if result is null
+     */
+    public ValidationResult validate(final T target, final ValidationResult result) {
+        if (result == null) {
+            throw new IllegalArgumentException("ValidationResult cannot be null");
+        }
+
+        for (int i = 0, count = steps.size(); i < count; i++) {
+            if (!steps.get(i).apply(target, result)) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A single, immutable step of a compiled schema.
+     *
+     * @param <S> the type of the subject the step is applied to
+     */
+    @FunctionalInterface
+    private interface Step<S> {
+
+        /**
+         * Applies this step to the subject.
+         *
+         * @param subject the object or property value being validated
+         * @param result the result that collects the validation failures
+         * @return true if the following steps should be applied, false to short-circuit them
+         */
+        boolean apply(S subject, ValidationResult result);
+    }
+
+    /**
+     * A single, immutable step of a compiled property, applied to the property's value.
+     *
+     * @param <V> the type of the property value
+     */
+    @FunctionalInterface
+    private interface PropertyRule<V> {
+
+        /**
+         * Applies this step to the property value, resolving it only if the step needs it.
+         *
+         * @param value the lazily extracted property value
+         * @param result the result that collects the validation failures
+         * @return true if the following steps of the property should be applied, false to short-circuit them
+         */
+        boolean apply(Extraction<?, V> value, ValidationResult result);
+    }
+
+    /**
+     * Per-run holder of a property value, extracted on first access and then reused by
+     * the remaining steps of the property and by its nested properties.
+     *
+     * @param <S> the type of the object the property belongs to
+     * @param <V> the type of the property value
+     */
+    private static final class Extraction<S, V> {
+
+        private final S subject;
+        private final Extraction<?, S> source;
+        private final Function<S, V> extractor;
+        private V value;
+        private boolean extracted;
+
+        private Extraction(final S subject, final Extraction<?, S> source, final Function<S, V> extractor) {
+            this.subject = subject;
+            this.source = source;
+            this.extractor = extractor;
+        }
+
+        /**
+         * Returns the property value, extracting it from the owning object on the first call.
+         * Like {@link PropertyValidator}, a null owning object yields a null value.
+         *
+         * @return the property value, may be null
+         */
+        V get() {
+            if (!extracted) {
+                S owner = source != null ? source.get() : subject;
+                value = owner != null ? extractor.apply(owner) : null;
+                extracted = true;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * The compiled form of a property: applies the property's own steps to its value,
+     * which is extracted at most once and only when a step reads it.
+     *
+     * @param <S> the type of the object the property belongs to
+     * @param <V> the type of the property value
+     */
+    private static final class PropertyStep<S, V> implements Step<S> {
+
+        private final Function<S, V> extractor;
+        private final List<PropertyRule<V>> rules;
+
+        private PropertyStep(final Function<S, V> extractor, final List<PropertyRule<V>> rules) {
+            this.extractor = extractor;
+            this.rules = List.copyOf(rules);
+        }
+
+        @Override
+        public boolean apply(final S subject, final ValidationResult result) {
+            run(new Extraction<>(subject, null, extractor), result);
+            // A property short-circuit only ends the property's own chain
+            return true;
+        }
+
+        /**
+         * Applies this property as a nested property of an enclosing property's value.
+         *
+         * @param owner the lazily extracted value of the enclosing property
+         * @param result the result that collects the validation failures
+         * @return always true, since a nested short-circuit only ends the nested chain
+         */
+        private boolean applyNested(final Extraction<?, S> owner, final ValidationResult result) {
+            run(new Extraction<>(null, owner, extractor), result);
+            return true;
+        }
+
+        private void run(final Extraction<S, V> value, final ValidationResult result) {
+            for (int i = 0, count = rules.size(); i < count; i++) {
+                if (!rules.get(i).apply(value, result)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fluent builder describing the top-level steps of a {@link ValidatorSchema}.
+     *
+     * <p>A builder is not thread-safe and is intended to be used once, typically while
+     * initializing a constant. The schema produced by {@link #build()} is independent
+     * of the builder.</p>
+     *
+     * @param <T> the type of object validated by the schema
+     */
+    public static final class Builder<T> {
+
+        private final List<Step<T>> steps = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Starts describing a property of the target object.
+         * The property is added to the schema when its description is closed with
+         * {@link PropertyBuilder#end()}.
+         *
+         * @param <V> the type of the property
+         * @param identifier the identifier for the property (used in error messages)
+         * @param extractor a function that extracts the property value from the target object
+         * @return a builder for the property's validation steps
+         * @throws NullPointerException if identifier or extractor is null
+         */
+        public <V> PropertyBuilder<T, V, Builder<T>> property(final ValidationIdentifier identifier,
+                                                              final Function<T, V> extractor) {
+            return new PropertyBuilder<>(this, identifier, extractor, steps::add);
+        }
+
+        /**
+         * Short-circuits the remaining steps of the schema when the condition holds
+         * for the result collected so far.
+         *
+         * @param condition a predicate evaluated against the current ValidationResult
+         * @return this builder for method chaining
+         * @throws NullPointerException if condition is null
+         * @see Validator#shortCircuitIf(Predicate)
+         */
+        public Builder<T> shortCircuitIf(final Predicate<ValidationResult> condition) {
+            Objects.requireNonNull(condition, "Condition must not be null");
+            steps.add((target, result) -> !condition.test(result));
+            return this;
+        }
+
+        /**
+         * Short-circuits the remaining steps of the schema if any validation errors
+         * have been collected so far.
+         *
+         * @return this builder for method chaining
+         * @see Validator#shortCircuitIfErrors()
+         */
+        public Builder<T> shortCircuitIfErrors() {
+            return shortCircuitIf(ValidationResult::hasErrors);
+        }
+
+        /**
+         * Freezes the described steps into an immutable, thread-safe schema.
+         *
+         * @return the compiled schema
+         */
+        public ValidatorSchema<T> build() {
+            return new ValidatorSchema<>(steps);
+        }
+    }
+
+    /**
+     * Fluent builder describing the validation steps of a single property.
+     *
+     * <p>The methods of this builder follow the semantics of their {@link PropertyValidator}
+     * counterparts. Property-level short-circuiting only affects the remaining steps of the
+     * same property.</p>
+     *
+     * @param <T> the type of the object owning the property
+     * @param <V> the type of the property value
+     * @param <P> the type of the builder returned by {@link #end()}
+     */
+    public static final class PropertyBuilder<T, V, P> {
+
+        private final P parent;
+        private final ValidationIdentifier identifier;
+        private final Function<T, V> extractor;
+        private final Consumer<PropertyStep<T, V>> sink;
+        private final List<PropertyRule<V>> steps = new ArrayList<>();
+        private boolean ended;
+
+        private PropertyBuilder(final P parent,
+                                final ValidationIdentifier identifier,
+                                final Function<T, V> extractor,
+                                final Consumer<PropertyStep<T, V>> sink) {
+            this.parent = parent;
+            this.identifier = Objects.requireNonNull(identifier, "Identifier must not be null");
+            this.extractor = Objects.requireNonNull(extractor, "Extractor must not be null");
+            this.sink = sink;
+        }
+
+        /**
+         * Adds a validation rule for the property.
+         *
+         * @param rule the validation rule to apply
+         * @return this builder for method chaining
+         * @throws NullPointerException if rule is null
+         * @see PropertyValidator#validate(ValidationRule)
+         */
+        public PropertyBuilder<T, V, P> validate(final ValidationRule<V> rule) {
+            Objects.requireNonNull(rule, "Validation rule must not be null");
+            steps.add((value, result) -> {
+                rule.validate(value.get(), result, identifier);
+                return true;
+            });
+            return this;
+        }
+
+        /**
+         * Adds a validation rule that is only applied when the condition holds for the property value.
+         *
+         * @param condition the predicate that determines whether the rule is applied
+         * @param rule the validation rule to apply
+         * @return this builder for method chaining
+         * @throws NullPointerException if condition or rule is null
+         * @see PropertyValidator#validateWhen(Predicate, ValidationRule)
+         */
+        public PropertyBuilder<T, V, P> validateWhen(final Predicate<V> condition,
+                                                     final ValidationRule<V> rule) {
+            Objects.requireNonNull(condition, "Condition must not be null");
+            Objects.requireNonNull(rule, "Validation rule must not be null");
+            steps.add((value, result) -> {
+                V currentValue = value.get();
+                if (condition.test(currentValue)) {
+                    rule.validate(currentValue, result, identifier);
+                }
+                return true;
+            });
+            return this;
+        }
+
+        /**
+         * Adds a validation rule that is only applied if the property has no errors yet.
+         *
+         * @param rule the validation rule to apply
+         * @return this builder for method chaining
+         * @throws NullPointerException if rule is null
+         * @see PropertyValidator#validateIfNoError(ValidationRule)
+         */
+        public PropertyBuilder<T, V, P> validateIfNoError(final ValidationRule<V> rule) {
+            return validateIfNoErrorFor(identifier, rule);
+        }
+
+        /**
+         * Adds a validation rule that is only applied if another identifier has no errors.
+         *
+         * @param otherIdentifier the identifier whose errors are checked
+         * @param rule the validation rule to apply
+         * @return this builder for method chaining
+         * @throws NullPointerException if otherIdentifier or rule is null
+         * @see PropertyValidator#validateIfNoErrorFor(ValidationIdentifier, ValidationRule)
+         */
+        public PropertyBuilder<T, V, P> validateIfNoErrorFor(final ValidationIdentifier otherIdentifier,
+                                                             final ValidationRule<V> rule) {
+            Objects.requireNonNull(otherIdentifier, "Identifier must not be null");
+            Objects.requireNonNull(rule, "Validation rule must not be null");
+            steps.add((value, result) -> {
+                if (!result.hasErrorForIdentifier(otherIdentifier)) {
+                    rule.validate(value.get(), result, identifier);
+                }
+                return true;
+            });
+            return this;
+        }
+
+        /**
+         * Passes non-null property values to the consumer, typically for debugging.
+         *
+         * @param consumer the consumer to invoke with the property value
+         * @return this builder for method chaining
+         * @throws NullPointerException if consumer is null
+         * @see PropertyValidator#peek(Consumer)
+         */
+        public PropertyBuilder<T, V, P> peek(final Consumer<V> consumer) {
+            Objects.requireNonNull(consumer, "Consumer must not be null");
+            steps.add((value, result) -> {
+                V currentValue = value.get();
+                if (currentValue != null) {
+                    consumer.accept(currentValue);
+                }
+                return true;
+            });
+            return this;
+        }
+
+        /**
+         * Short-circuits the remaining steps of this property when the condition holds
+         * for the result collected so far.
+         *
+         * @param condition a predicate evaluated against the current ValidationResult
+         * @return this builder for method chaining
+         * @throws NullPointerException if condition is null
+         * @see PropertyValidator#shortCircuitIf(Predicate)
+         */
+        public PropertyBuilder<T, V, P> shortCircuitIf(final Predicate<ValidationResult> condition) {
+            Objects.requireNonNull(condition, "Condition must not be null");
+            steps.add((value, result) -> !condition.test(result));
+            return this;
+        }
+
+        /**
+         * Short-circuits the remaining steps of this property if it already has errors.
+         *
+         * @return this builder for method chaining
+         * @see PropertyValidator#shortCircuitIfErrors()
+         */
+        public PropertyBuilder<T, V, P> shortCircuitIfErrors() {
+            return shortCircuitIf(result -> result.hasErrorForIdentifier(identifier));
+        }
+
+        /**
+         * Starts describing a nested property of this property's value.
+         * The nested property is added to this property when its description is closed
+         * with {@link #end()}, and is skipped if this property has been short-circuited.
+         *
+         * @param <K> the type of the nested property
+         * @param nestedIdentifier the identifier for the nested property
+         * @param nestedExtractor a function that extracts the nested value from this property's value
+         * @return a builder for the nested property's validation steps
+         * @throws NullPointerException if nestedIdentifier or nestedExtractor is null
+         * @see PropertyValidator#property(ValidationIdentifier, Function)
+         */
+        public <K> PropertyBuilder<V, K, PropertyBuilder<T, V, P>> property(final ValidationIdentifier nestedIdentifier,
+                                                                            final Function<V, K> nestedExtractor) {
+            return new PropertyBuilder<>(this, nestedIdentifier, nestedExtractor,
+                    nested -> steps.add(nested::applyNested));
+        }
+
+        /**
+         * Completes the description of this property and returns to the enclosing builder.
+         * A property can only be completed once.
+         *
+         * @return the enclosing builder
+         * @throws IllegalStateException if this property has already been completed
+         */
+        public P end() {
+            if (ended) {
+                throw new IllegalStateException("Property description has already been ended");
+            }
+            ended = true;
+            sink.accept(new PropertyStep<>(extractor, steps));
+            return parent;
+        }
+    }
+}
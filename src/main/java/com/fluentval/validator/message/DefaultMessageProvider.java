@@ -2,10 +2,15 @@ package com.fluentval.validator.message;
 
 import com.fluentval.validator.ValidationIdentifier;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Default implementation of ValidationMessageProvider that provides comprehensive
@@ -31,6 +36,10 @@ import java.util.Map;
  * (e.g., "Field '{field}' must be at least {minLength} characters long"). Placeholders are
  * replaced with corresponding values from the parameters map during message generation.</p>
  *
+ * <p><strong>Thread Safety:</strong> This provider is thread-safe. Compiled templates are held in
+ * an immutable snapshot published through a volatile field; {@link #getMessage} is a lock-free
+ * read of that snapshot, and {@link #setMessageTemplate} publishes a modified copy atomically.</p>
+ *
  * <p><strong>Extensibility:</strong> While this provider includes comprehensive default messages,
  * it can be extended or customized by modifying templates at runtime or by subclassing
  * to provide domain-specific message handling.</p>
@@ -44,18 +53,57 @@ import java.util.Map;
 public class DefaultMessageProvider implements ValidationMessageProvider {
 
     /**
-     * Map storing message templates keyed by validation codes.
-     * This map contains the raw template strings with placeholder syntax
-     * that will be compiled into structured components for efficient processing.
+     * Template used for codes without a registered template.
+     */
+    static final CompiledTemplate FALLBACK_TEMPLATE =
+            new CompiledTemplate("Validation failed for field '{field}'");
+
+    /**
+     * The built-in templates, compiled once on first use and shared by all instances.
+     */
+    private static final class DefaultTemplates {
+
+        static final Map<String, CompiledTemplate> TEMPLATES = compileAll(defaultMessages());
+    }
+
+    /**
+     * Immutable snapshot of the compiled message templates keyed by validation codes.
+     * Templates are compiled when they are registered, and the whole map is replaced
+     * on every modification, so readers never observe a partially updated state.
      */
-    private final Map<String, String> messageTemplates = new HashMap<>();
+    private volatile Map<String, CompiledTemplate> messageTemplates;
 
     /**
-     * Cache of compiled template parts for performance optimization.
-     * This map stores pre-parsed template structures to avoid repeated
-     * parsing overhead during message generation operations.
+     * Lock serializing template modifications; readers never acquire it.
      */
-    private final Map<String, List<TemplatePart>> compiledTemplates = new HashMap<>();
+    private final Object writeLock = new Object();
+
+    /**
+     * A message template together with its compiled parts.
+     */
+    static final class CompiledTemplate {
+
+        /** The raw template string with placeholder syntax */
+        final String template;
+
+        /** The parsed template structure */
+        final TemplatePart[] parts;
+
+        /** Total length of the static text, used to presize the message buffer */
+        final int textLength;
+
+        CompiledTemplate(String template) {
+            this.template = template;
+            this.parts = compileTemplate(template).toArray(new TemplatePart[0]);
+            int length = 0;
+            for (TemplatePart part : parts) {
+                if (part.type == TemplatePart.Type.TEXT) {
+                    length += part.value.length();
+                }
+            }
+            this.textLength = length;
+        }
+    }
 
     /**
      * Internal class representing a parsed component of a message template.
@@ -80,6 +128,12 @@ public class DefaultMessageProvider implements ValidationMessageProvider {
         /** The content of this template part (text content or placeholder name) */
         final String value;
 
+        /**
+         * The standard parameter the placeholder refers to, resolved at compile time;
+         * null for text parts and placeholders with custom names.
+         */
+        final MessageParameter parameter;
+
         /**
          * Creates a new template part with the specified type and content.
          *
@@ -89,6 +143,7 @@ public class DefaultMessageProvider implements ValidationMessageProvider {
         TemplatePart(Type type, String value) {
             this.type = type;
             this.value = value;
+            this.parameter = type == Type.PLACEHOLDER ? MessageParameter.forKey(value) : null;
         }
     }
 
@@ -99,15 +154,42 @@ public class DefaultMessageProvider implements ValidationMessageProvider {
      * error messages for all validation codes defined in {@link com.fluentval.validator.metadata.DefaultValidationCode}.
      * The initialization process loads templates for common, string, number, collection,
      * date-time, and specialized validation scenarios.</p>
+     *
+     * <p>The built-in templates are compiled once per class loader and shared by all
+     * instances; a new provider only copies a reference to them. Templates set with
+     * {@link #setMessageTemplate(String, String)} affect only the provider they are set on.</p>
      */
     public DefaultMessageProvider() {
-        initializeDefaultMessages();
+        this.messageTemplates = DefaultTemplates.TEMPLATES;
+    }
+
+    /**
+     * Returns the built-in message templates keyed by validation code.
+     *
+     * @return a new mutable map of the built-in templates
+     */
+    static Map<String, String> defaultMessages() {
+        Map<String, String> defaults = new HashMap<>();
+        initializeDefaultMessages(defaults);
+        return defaults;
+    }
+
+    /**
+     * Compiles every template of the given map.
+     *
+     * @param templates the raw templates keyed by validation code
+     * @return an unmodifiable map of the compiled templates
+     */
+    static Map<String, CompiledTemplate> compileAll(Map<String, String> templates) {
+        Map<String, CompiledTemplate> compiled = new HashMap<>();
+        templates.forEach((code, template) -> compiled.put(code, new CompiledTemplate(template)));
+        return Collections.unmodifiableMap(compiled);
     }
 
     /**
      * Initializes the default message templates for all standard validation codes.
      *
-     * <p>This method populates the messageTemplates map with comprehensive English-language
+     * <p>This method populates the given map with comprehensive English-language
      * error message templates covering all validation scenarios supported by the framework.
      * Templates use placeholder syntax for dynamic content substitution.</p>
      *
@@ -121,8 +203,10 @@ public class DefaultMessageProvider implements ValidationMessageProvider {
      * <li>Collection validation messages (size, content, element validation)</li>
      * <li>Allowed values validation messages (enumeration, set membership)</li>
      * </ul>
+     *
+     * @param messageTemplates the map to populate with templates keyed by validation code
      */
-    private void initializeDefaultMessages() {
+    private static void initializeDefaultMessages(Map<String, String> messageTemplates) {
         // Common validation messages
         messageTemplates.put("common.not_null", "Field '{field}' must not be null");
         messageTemplates.put("common.must_be_null", "Field '{field}' must be null");
@@ -140,6 +224,7 @@ public class DefaultMessageProvider implements ValidationMessageProvider {
         messageTemplates.put("string.min_length", "Field '{field}' must be at least {minLength} characters long");
         messageTemplates.put("string.exact_length", "Field '{field}' must be exactly {exactLength} characters long");
         messageTemplates.put("string.matches", "Field '{field}' must match the pattern: {pattern}");
+        messageTemplates.put("string.matches_budget_exceeded", "Field '{field}' could not be matched against the pattern {pattern} within {maxSteps} steps");
         messageTemplates.put("string.one_of", "Field '{field}' must be one of: {allowedValues}");
         messageTemplates.put("string.one_of_ignore_case", "Field '{field}' must be one of (case insensitive): {allowedValues}");
         messageTemplates.put("string.starts_with", "Field '{field}' must start with '{prefix}'");
@@ -248,7 +333,7 @@ public class DefaultMessageProvider implements ValidationMessageProvider {
      * @param template the template string to compile into structured parts
      * @return a list of TemplatePart objects representing the parsed template structure
      */
-    private List<TemplatePart> compileTemplate(String template) {
+    private static List<TemplatePart> compileTemplate(String template) {
         List<TemplatePart> parts = new ArrayList<>();
         StringBuilder textBuilder = new StringBuilder();
 
@@ -300,8 +385,12 @@ public class DefaultMessageProvider implements ValidationMessageProvider {
      * <li>Supports all standard validation codes defined in the framework</li>
      * </ul>
      *
-     * <p><strong>Performance Optimization:</strong> Templates are compiled once and cached
-     * for subsequent use, avoiding repeated parsing overhead during message generation.</p>
+     * <p><strong>Performance Optimization:</strong> Templates are compiled when they are
+     * registered, so message generation only reads the current template snapshot and
+     * never parses or locks. Placeholders naming a {@link MessageParameter} are resolved
+     * to it at compile time; when the parameters are a {@link MessageParameters} instance,
+     * as they are for {@link com.fluentval.validator.metadata.ValidationMetadata}, values
+     * are read from its slots without hashing placeholder names.</p>
      *
      * @param code the validation code identifying the type of validation failure
      * @param identifier the validation identifier (used for context but not directly in message generation)
@@ -310,25 +399,72 @@ public class DefaultMessageProvider implements ValidationMessageProvider {
      */
     @Override
     public String getMessage(String code, ValidationIdentifier identifier, Map<String, Object> parameters) {
-        String template = messageTemplates.getOrDefault(code, "Validation failed for field '{field}'");
+        return format(messageTemplates.getOrDefault(code, FALLBACK_TEMPLATE), parameters);
+    }
+
+    /**
+     * Renders the compiled template into a new string.
+     *
+     * @param template the compiled template
+     * @param parameters the parameter values
+     * @return the rendered message
+     */
+    static String format(CompiledTemplate template, Map<String, Object> parameters) {
+        StringBuilder result = new StringBuilder(template.textLength + 16 * template.parts.length);
+        try {
+            render(template, parameters, result);
+        } catch (IOException e) {
+            // StringBuilder does not throw
+            throw new UncheckedIOException(e);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The compiled template is written straight to the output, piece by piece, without
+     * building an intermediate message string.</p>
+     */
+    @Override
+    public void appendMessage(Appendable out, String code, ValidationIdentifier identifier, Map<String, Object> parameters) {
+        Objects.requireNonNull(out, "Output must not be null");
+        try {
+            render(messageTemplates.getOrDefault(code, FALLBACK_TEMPLATE), parameters, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        List<TemplatePart> parts = compiledTemplates.computeIfAbsent(
-                template, this::compileTemplate
-        );
+    /**
+     * Writes the compiled template to the output, substituting placeholders with parameter values.
+     * Missing parameters render as empty text.
+     *
+     * @param template the compiled template
+     * @param parameters the parameter values
+     * @param out the output to write to
+     * @throws IOException if writing to the output fails
+     */
+    static void render(CompiledTemplate template, Map<String, Object> parameters, Appendable out) throws IOException {
+        MessageParameters slots = parameters instanceof MessageParameters messageParameters
+                ? messageParameters
+                : null;
 
-        StringBuilder result = new StringBuilder();
-        for (TemplatePart part : parts) {
+        for (TemplatePart part : template.parts) {
             if (part.type == TemplatePart.Type.TEXT) {
-                result.append(part.value);
+                out.append(part.value);
             } else {
-                Object value = parameters.get(part.value);
-                if (value != null) {
-                    result.append(value.toString());
+                Object value = slots != null && part.parameter != null
+                        ? slots.get(part.parameter)
+                        : parameters.get(part.value);
+                if (value instanceof CharSequence text) {
+                    out.append(text);
+                } else if (value != null) {
+                    out.append(value.toString());
                 }
             }
         }
-
-        return result.toString();
     }
 
     /**
@@ -347,12 +483,26 @@ public class DefaultMessageProvider implements ValidationMessageProvider {
         return messageTemplates.containsKey(code);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Returns the codes of all templates registered at the time of the call, including
+     * custom codes added via {@link #setMessageTemplate(String, String)}.</p>
+     *
+     * @return an unmodifiable snapshot of the codes with a message template
+     */
+    @Override
+    public Collection<String> supportedCodes() {
+        return messageTemplates.keySet();
+    }
+
     /**
      * Sets or updates a message template for the specified validation code.
      *
      * <p>This method allows runtime customization of error messages by adding new templates
-     * or overriding existing ones. When a template is updated, any cached compiled version
-     * is invalidated to ensure the new template is used for subsequent message generation.</p>
+     * or overriding existing ones. The template is compiled immediately and published in a new
+     * template snapshot, so concurrent message generation sees either the old or the new
+     * template, never an intermediate state.</p>
      *
      * <p><strong>Use Cases:</strong></p>
      * <ul>
@@ -372,7 +522,15 @@ public class DefaultMessageProvider implements ValidationMessageProvider {
      * @throws IllegalArgumentException if code or template is null
      */
     public void setMessageTemplate(String code, String template) {
-        messageTemplates.put(code, template);
-        compiledTemplates.remove(template);
+        if (code == null || template == null) {
+            throw new IllegalArgumentException("Code and template must not be null");
+        }
+        CompiledTemplate compiled = new CompiledTemplate(template);
+
+        synchronized (writeLock) {
+            Map<String, CompiledTemplate> updated = new HashMap<>(messageTemplates);
+            updated.put(code, compiled);
+            messageTemplates = Collections.unmodifiableMap(updated);
+        }
     }
 }
\ No newline at end of file
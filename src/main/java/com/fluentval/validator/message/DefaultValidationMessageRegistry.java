@@ -2,9 +2,14 @@ package com.fluentval.validator.message;
 
 import com.fluentval.validator.ValidationIdentifier;
 import com.fluentval.validator.metadata.DefaultValidationCode;
+import com.fluentval.validator.metadata.ValidationMetadata;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Default implementation of ValidationMessageRegistry that provides comprehensive
@@ -33,13 +38,21 @@ import java.util.Map;
  * <li>Fall back to configured default provider (guaranteed coverage)</li>
  * </ol>
  *
- * <p><strong>Thread Safety:</strong> This implementation is not thread-safe by default.
- * In multi-threaded environments, external synchronization should be applied when
- * modifying provider registrations concurrently with message generation operations.</p>
+ * <p><strong>Thread Safety:</strong> This implementation is thread-safe and a single instance
+ * can be shared across threads. The provider mappings and the default provider are held in an
+ * immutable snapshot published through a volatile field. {@link #getMessage} reads the current
+ * snapshot without locking. Modifications copy the snapshot, apply the change and publish the
+ * new snapshot atomically; concurrent modifications are serialized among themselves.</p>
  *
- * <p><strong>Performance Characteristics:</strong> Provider lookup operations are
- * optimized for O(1) performance through HashMap-based mappings, making message
- * generation suitable for high-frequency validation scenarios.</p>
+ * <p><strong>Performance Characteristics:</strong> Every validation code, including custom
+ * codes registered at runtime, is assigned a dense integer id, and providers are kept in an
+ * array indexed by that id. Rendering from {@link ValidationMetadata} of a standard code uses
+ * the id carried by the metadata, so provider lookup is a single array load; the overloads
+ * taking a code string resolve its id first. Custom code ids belong to the registry and are
+ * released with it. Providers that declare their
+ * {@link ValidationMessageProvider#supportedCodes() supported codes} are registered in time
+ * proportional to that declaration. Modifications copy the mappings and are intended for
+ * configuration time.</p>
  *
  * @author Matej Šarić
  * @since 1.2.3
@@ -51,18 +64,57 @@ import java.util.Map;
 public class DefaultValidationMessageRegistry implements ValidationMessageRegistry {
 
     /**
-     * Map storing explicit associations between validation codes and message providers.
-     * This map provides direct routing for specific validation codes to designated
-     * providers, enabling fine-grained control over message generation.
+     * Current immutable snapshot of the provider mappings and the default provider.
+     * Replaced as a whole on every modification.
      */
-    private final Map<String, ValidationMessageProvider> providers = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(new ValidationMessageProvider[0], null);
 
     /**
-     * Default message provider used as fallback when no specialized provider
-     * is available for a particular validation code. This provider ensures
-     * comprehensive message coverage for all validation scenarios.
+     * Lock serializing modifications; readers never acquire it.
      */
-    private ValidationMessageProvider validationMessageProvider;
+    private final Object writeLock = new Object();
+
+    /**
+     * Dense ids of the standard codes and of the custom codes mapped in this registry.
+     */
+    private final ValidationCodeIds codeIds = new ValidationCodeIds();
+
+    /**
+     * Immutable state of the registry.
+     */
+    private static final class Snapshot {
+
+        /**
+         * Table storing explicit associations between validation codes and message providers,
+         * indexed by the dense id of the code. This table provides direct routing for specific
+         * validation codes to designated providers, enabling fine-grained control over
+         * message generation. Entries are null for codes without a mapping.
+         */
+        final ValidationMessageProvider[] providers;
+
+        /**
+         * Default message provider used as fallback when no specialized provider
+         * is available for a particular validation code. This provider ensures
+         * comprehensive message coverage for all validation scenarios.
+         */
+        final ValidationMessageProvider validationMessageProvider;
+
+        Snapshot(ValidationMessageProvider[] providers, ValidationMessageProvider validationMessageProvider) {
+            this.providers = providers;
+            this.validationMessageProvider = validationMessageProvider;
+        }
+
+        /**
+         * Selects the provider for the code id: its mapped provider, or the default provider.
+         *
+         * @param id the dense id of the code, or -1 for an unknown code
+         * @return the provider to render the code with
+         */
+        ValidationMessageProvider providerFor(int id) {
+            ValidationMessageProvider provider = id >= 0 && id < providers.length ? providers[id] : null;
+            return provider != null ? provider : validationMessageProvider;
+        }
+    }
 
     /**
      * Constructs a new DefaultValidationMessageRegistry with the default message provider.
@@ -81,8 +133,7 @@ public class DefaultValidationMessageRegistry implements ValidationMessageRegist
      * </ol>
      */
     public DefaultValidationMessageRegistry() {
-        this.validationMessageProvider = new DefaultMessageProvider();
-        registerProvider(validationMessageProvider);
+        this(new DefaultMessageProvider());
     }
 
     /**
@@ -109,8 +160,7 @@ public class DefaultValidationMessageRegistry implements ValidationMessageRegist
      * @throws NullPointerException if validationMessageProvider is null
      */
     public DefaultValidationMessageRegistry(ValidationMessageProvider validationMessageProvider) {
-        this.validationMessageProvider = validationMessageProvider;
-        registerProvider(this.validationMessageProvider);
+        setValidationMessageProvider(validationMessageProvider);
     }
 
     /**
@@ -118,9 +168,9 @@ public class DefaultValidationMessageRegistry implements ValidationMessageRegist
      *
      * <p><strong>Implementation Details:</strong></p>
      * <ul>
-     * <li>Iterates through all {@link DefaultValidationCode} enum values</li>
-     * <li>Tests provider support using {@link ValidationMessageProvider#supports(String)}</li>
-     * <li>Creates direct mappings for all supported codes</li>
+     * <li>Maps every code declared by {@link ValidationMessageProvider#supportedCodes()}</li>
+     * <li>Providers that do not declare their codes are tested against all {@link DefaultValidationCode}
+     * values using {@link ValidationMessageProvider#supports(String)}</li>
      * <li>Overwrites existing mappings for codes supported by the new provider</li>
      * </ul>
      *
@@ -138,10 +188,10 @@ public class DefaultValidationMessageRegistry implements ValidationMessageRegist
      */
     @Override
     public void registerProvider(ValidationMessageProvider provider) {
-        for (DefaultValidationCode code : DefaultValidationCode.values()) {
-            if (provider.supports(code.getCode())) {
-                providers.put(code.getCode(), provider);
-            }
+        Objects.requireNonNull(provider, "Provider must not be null");
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            snapshot = new Snapshot(withSupportedCodes(current.providers, provider), current.validationMessageProvider);
         }
     }
 
@@ -150,7 +200,7 @@ public class DefaultValidationMessageRegistry implements ValidationMessageRegist
      *
      * <p><strong>Implementation Details:</strong> This method creates a direct mapping
      * between the validation code and provider, bypassing any automatic registration
-     * logic. The mapping is stored in the internal providers map and takes precedence
+     * logic. The mapping is stored in the internal provider table and takes precedence
      * over any general provider registrations.</p>
      *
      * <p><strong>Mapping Persistence:</strong> Explicit code-to-provider mappings
@@ -163,7 +213,13 @@ public class DefaultValidationMessageRegistry implements ValidationMessageRegist
      */
     @Override
     public void setProviderForCode(String code, ValidationMessageProvider provider) {
-        providers.put(code, provider);
+        Objects.requireNonNull(code, "Code must not be null");
+        Objects.requireNonNull(provider, "Provider must not be null");
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            ValidationMessageProvider[] providers = withProvider(current.providers, codeIds.register(code), provider);
+            snapshot = new Snapshot(providers, current.validationMessageProvider);
+        }
     }
 
     /**
@@ -171,14 +227,14 @@ public class DefaultValidationMessageRegistry implements ValidationMessageRegist
      *
      * <p><strong>Implementation Details:</strong></p>
      * <ul>
-     * <li>Performs O(1) lookup in providers map for the validation code</li>
+     * <li>Resolves the code to its dense id and reads the provider table at that index</li>
      * <li>Falls back to default provider if no specialized provider is found</li>
      * <li>Delegates actual message generation to the selected provider</li>
      * <li>Returns the generated message without additional processing</li>
      * </ul>
      *
      * <p><strong>Provider Selection Logic:</strong> The method first checks for
-     * explicit code-to-provider mappings in the providers map. If no specific
+     * explicit code-to-provider mappings in the provider table. If no specific
      * mapping exists, it falls back to the configured default validation message
      * provider, ensuring that all validation codes can generate meaningful messages.</p>
      *
@@ -194,8 +250,98 @@ public class DefaultValidationMessageRegistry implements ValidationMessageRegist
      */
     @Override
     public String getMessage(String code, ValidationIdentifier identifier, Map<String, Object> parameters) {
-        ValidationMessageProvider provider = providers.getOrDefault(code, validationMessageProvider);
-        return provider.getMessage(code, identifier, parameters);
+        return snapshot.providerFor(codeIds.idOf(code)).getMessage(code, identifier, parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Selects the provider exactly as {@link #getMessage(String, ValidationIdentifier, Map)}
+     * does and passes the locale on to it.</p>
+     */
+    @Override
+    public String getMessage(String code, ValidationIdentifier identifier, Map<String, Object> parameters, Locale locale) {
+        return snapshot.providerFor(codeIds.idOf(code)).getMessage(code, identifier, parameters, locale);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The selected provider renders directly into the output.</p>
+     */
+    @Override
+    public void appendMessage(Appendable out, String code, ValidationIdentifier identifier, Map<String, Object> parameters) {
+        snapshot.providerFor(codeIds.idOf(code)).appendMessage(out, code, identifier, parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The selected provider renders directly into the output in the requested locale.</p>
+     */
+    @Override
+    public void appendMessage(Appendable out, String code, ValidationIdentifier identifier,
+                              Map<String, Object> parameters, Locale locale) {
+        snapshot.providerFor(codeIds.idOf(code)).appendMessage(out, code, identifier, parameters, locale);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Standard codes are dispatched by the {@link ValidationMetadata#getErrorCodeId() id}
+     * carried by the metadata with a single array load; only custom codes are resolved by name.</p>
+     */
+    @Override
+    public String getMessage(ValidationMetadata metadata) {
+        return providerFor(metadata).getMessage(metadata.getErrorCode(), metadata.getIdentifier(),
+                metadata.getMessageParameters());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Selects the provider exactly as {@link #getMessage(ValidationMetadata)} does and passes
+     * the locale on to it.</p>
+     */
+    @Override
+    public String getMessage(ValidationMetadata metadata, Locale locale) {
+        return providerFor(metadata).getMessage(metadata.getErrorCode(), metadata.getIdentifier(),
+                metadata.getMessageParameters(), locale);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Selects the provider exactly as {@link #getMessage(ValidationMetadata)} does; the
+     * selected provider renders directly into the output.</p>
+     */
+    @Override
+    public void appendMessage(Appendable out, ValidationMetadata metadata) {
+        providerFor(metadata).appendMessage(out, metadata.getErrorCode(), metadata.getIdentifier(),
+                metadata.getMessageParameters());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Selects the provider exactly as {@link #getMessage(ValidationMetadata)} does; the
+     * selected provider renders directly into the output in the requested locale.</p>
+     */
+    @Override
+    public void appendMessage(Appendable out, ValidationMetadata metadata, Locale locale) {
+        providerFor(metadata).appendMessage(out, metadata.getErrorCode(), metadata.getIdentifier(),
+                metadata.getMessageParameters(), locale);
+    }
+
+    /**
+     * Selects the provider for the metadata's error code, using the carried id of standard codes.
+     *
+     * @param metadata the metadata of the failure to render
+     * @return the provider to render the failure with
+     */
+    private ValidationMessageProvider providerFor(ValidationMetadata metadata) {
+        int id = metadata.getErrorCodeId();
+        return snapshot.providerFor(id >= 0 ? id : codeIds.idOf(metadata.getErrorCode()));
     }
 
     /**
@@ -224,7 +370,58 @@ public class DefaultValidationMessageRegistry implements ValidationMessageRegist
      */
     @Override
     public void setValidationMessageProvider(ValidationMessageProvider provider) {
-        this.validationMessageProvider = provider;
-        registerProvider(provider);
+        Objects.requireNonNull(provider, "Provider must not be null");
+        synchronized (writeLock) {
+            snapshot = new Snapshot(withSupportedCodes(snapshot.providers, provider), provider);
+        }
+    }
+
+    /**
+     * Returns a copy of the provider table with the provider registered for every code it supports.
+     *
+     * @param providers the current provider table
+     * @param provider the provider to register
+     * @return the new provider table
+     */
+    private ValidationMessageProvider[] withSupportedCodes(
+            ValidationMessageProvider[] providers, ValidationMessageProvider provider) {
+        Collection<String> codes = provider.supportedCodes();
+        if (codes == null) {
+            codes = new ArrayList<>();
+            for (DefaultValidationCode code : DefaultValidationCode.values()) {
+                if (provider.supports(code.getCode())) {
+                    codes.add(code.getCode());
+                }
+            }
+        }
+
+        int[] ids = new int[codes.size()];
+        int count = 0;
+        int maxId = providers.length - 1;
+        for (String code : codes) {
+            int id = codeIds.register(code);
+            ids[count++] = id;
+            maxId = Math.max(maxId, id);
+        }
+        ValidationMessageProvider[] updated = Arrays.copyOf(providers, maxId + 1);
+        for (int i = 0; i < count; i++) {
+            updated[ids[i]] = provider;
+        }
+        return updated;
+    }
+
+    /**
+     * Returns a copy of the provider table with the provider set at the given id.
+     *
+     * @param providers the current provider table
+     * @param id the dense code id
+     * @param provider the provider to set
+     * @return the new provider table
+     */
+    private static ValidationMessageProvider[] withProvider(
+            ValidationMessageProvider[] providers, int id, ValidationMessageProvider provider) {
+        ValidationMessageProvider[] updated = Arrays.copyOf(providers, Math.max(providers.length, id + 1));
+        updated[id] = provider;
+        return updated;
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,9 @@ package com.fluentval.validator.message;
 
 import com.fluentval.validator.metadata.ValidationMetadata;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enumeration of standard message parameters used in validation error message templates.
  * This enum provides a centralized catalog of all parameter keys that can be used for
@@ -49,6 +52,7 @@ public enum MessageParameter {
     MIN_LENGTH("minLength"),        // Minimum required length
     EXACT_LENGTH("exactLength"),    // Exact required length
     PATTERN("pattern"),             // Regex pattern
+    MAX_STEPS("maxSteps"),          // Character reads allowed for a guarded pattern match
     PREFIX("prefix"),               // Required string prefix
     SUFFIX("suffix"),               // Required string suffix
     SUBSTRING("substring"),         // Required substring
@@ -131,6 +135,14 @@ public enum MessageParameter {
     ENTITY_TYPE("entityType"),      // Type of entity being validated
     ERROR_DETAILS("errorDetails");  // Additional details about the error
 
+    private static final Map<String, MessageParameter> BY_KEY = new HashMap<>();
+
+    static {
+        for (MessageParameter parameter : values()) {
+            BY_KEY.put(parameter.key, parameter);
+        }
+    }
+
     private final String key;
 
     MessageParameter(String key) {
@@ -141,6 +153,16 @@ public enum MessageParameter {
         return key;
     }
 
+    /**
+     * Returns the parameter with the given key.
+     *
+     * @param key the parameter key, such as {@code "maxLength"}
+     * @return the matching parameter, or null if the key is not a standard parameter key
+     */
+    static MessageParameter forKey(String key) {
+        return BY_KEY.get(key);
+    }
+
     @Override
     public String toString() {
         return key;
@@ -0,0 +1,325 @@
+package com.fluentval.validator.message;
+
+import com.fluentval.validator.metadata.ValidationMetadata;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Compact map of message parameters keyed by {@link MessageParameter} slots.
+ *
+ * <p>Every validation failure carries a handful of message parameters, almost always
+ * standard ones such as {@code field}, {@code maxLength} or {@code actualSize}. Instead of
+ * a {@code HashMap} with an entry object per parameter, this map stores standard parameters
+ * as parallel arrays of enum ordinals and values, sized for the few parameters a failure
+ * actually has. Parameters with custom keys are kept in a separate map that is only
+ * allocated when the first custom key is added.</p>
+ *
+ * <p><strong>Key Features:</strong></p>
+ * <ul>
+ * <li><strong>Typed Access</strong> - {@link #get(MessageParameter)} and {@link #put(MessageParameter, Object)}
+ * work on slots without building or hashing key strings</li>
+ * <li><strong>Map Compatibility</strong> - String-keyed {@link Map} operations are supported; standard keys
+ * are routed to their slots, so {@code get("field")} and {@code get(MessageParameter.FIELD)} agree</li>
+ * <li><strong>Insertion Order</strong> - Standard parameters are iterated in insertion order, followed
+ * by custom parameters in insertion order</li>
+ * </ul>
+ *
+ * <p>Like {@code HashMap}, this map is not thread-safe and permits null values.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * MessageParameters parameters = new MessageParameters();
+ * parameters.put(MessageParameter.FIELD, "username");
+ * parameters.put(MessageParameter.MAX_LENGTH, 20);
+ * parameters.put("tenant", "acme");
+ *
+ * Object max = parameters.get(MessageParameter.MAX_LENGTH); // 20
+ * Object field = parameters.get("field");                  // "username"
+ * }</pre>
+ *
+ * @author Matej Šarić
+ * @since 1.2.3
+ * @see MessageParameter
+ * @see ValidationMetadata#getMessageParameters()
+ */
+public final class MessageParameters extends AbstractMap<String, Object> {
+
+    private static final MessageParameter[] PARAMETERS = MessageParameter.values();
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    static {
+        if (PARAMETERS.length > Byte.MAX_VALUE) {
+            throw new IllegalStateException("MessageParameter ordinals no longer fit the slot encoding");
+        }
+    }
+
+    /**
+     * Ordinals of the standard parameters present, in insertion order.
+     */
+    private byte[] ordinals;
+
+    /**
+     * Values of the standard parameters, parallel to {@link #ordinals}.
+     */
+    private Object[] values;
+
+    /**
+     * Number of standard parameters present.
+     */
+    private int slotCount;
+
+    /**
+     * Parameters with keys that are not standard {@link MessageParameter} keys,
+     * allocated on first use.
+     */
+    private Map<String, Object> custom;
+
+    /**
+     * Lazily created entry set view.
+     */
+    private Set<Entry<String, Object>> entrySet;
+
+    /**
+     * Creates an empty parameter map.
+     */
+    public MessageParameters() {
+        this.ordinals = new byte[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the value of a standard parameter.
+     *
+     * @param parameter the parameter to look up
+     * @return the parameter value, or null if it is absent
+     * @throws NullPointerException if parameter is null
+     */
+    public Object get(MessageParameter parameter) {
+        int slot = slotOf(parameter.ordinal());
+        return slot >= 0 ? values[slot] : null;
+    }
+
+    /**
+     * Checks whether a standard parameter is present.
+     *
+     * @param parameter the parameter to look up
+     * @return true if the parameter is present
+     * @throws NullPointerException if parameter is null
+     */
+    public boolean containsKey(MessageParameter parameter) {
+        return slotOf(parameter.ordinal()) >= 0;
+    }
+
+    /**
+     * Sets the value of a standard parameter.
+     *
+     * @param parameter the parameter to set
+     * @param value the parameter value, may be null
+     * @return the previous value, or null if the parameter was absent
+     * @throws NullPointerException if parameter is null
+     */
+    public Object put(MessageParameter parameter, Object value) {
+        int ordinal = parameter.ordinal();
+        int slot = slotOf(ordinal);
+        if (slot >= 0) {
+            Object previous = values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        if (slotCount == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, slotCount * 2);
+            values = Arrays.copyOf(values, slotCount * 2);
+        }
+        ordinals[slotCount] = (byte) ordinal;
+        values[slotCount] = value;
+        slotCount++;
+        return null;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String name) {
+            MessageParameter parameter = MessageParameter.forKey(name);
+            if (parameter != null) {
+                return get(parameter);
+            }
+            return custom != null ? custom.get(name) : null;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key instanceof String name) {
+            MessageParameter parameter = MessageParameter.forKey(name);
+            if (parameter != null) {
+                return containsKey(parameter);
+            }
+            return custom != null && custom.containsKey(name);
+        }
+        return false;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Objects.requireNonNull(key, "Parameter key must not be null");
+        MessageParameter parameter = MessageParameter.forKey(key);
+        if (parameter != null) {
+            return put(parameter, value);
+        }
+        if (custom == null) {
+            custom = new LinkedHashMap<>();
+        }
+        return custom.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        MessageParameter parameter = MessageParameter.forKey(name);
+        if (parameter == null) {
+            return custom != null ? custom.remove(name) : null;
+        }
+        int slot = slotOf(parameter.ordinal());
+        if (slot < 0) {
+            return null;
+        }
+        Object previous = values[slot];
+        removeSlot(slot);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, slotCount, null);
+        slotCount = 0;
+        custom = null;
+    }
+
+    @Override
+    public int size() {
+        return slotCount + (custom != null ? custom.size() : 0);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> view = entrySet;
+        if (view == null) {
+            view = new EntrySet();
+            entrySet = view;
+        }
+        return view;
+    }
+
+    /**
+     * Returns the slot holding the ordinal.
+     *
+     * @param ordinal the parameter ordinal
+     * @return the slot index, or -1 if the parameter is absent
+     */
+    private int slotOf(int ordinal) {
+        byte[] keys = ordinals;
+        for (int i = 0; i < slotCount; i++) {
+            if (keys[i] == ordinal) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the slot, keeping the remaining slots in insertion order.
+     *
+     * @param slot the slot index
+     */
+    private void removeSlot(int slot) {
+        int moved = slotCount - slot - 1;
+        System.arraycopy(ordinals, slot + 1, ordinals, slot, moved);
+        System.arraycopy(values, slot + 1, values, slot, moved);
+        values[--slotCount] = null;
+    }
+
+    /**
+     * Entry set view iterating standard parameters first, then custom parameters.
+     */
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<>() {
+                private int next;
+                private int last = -1;
+                private Iterator<Entry<String, Object>> customEntries;
+
+                @Override
+                public boolean hasNext() {
+                    return next < slotCount || customIterator().hasNext();
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (next < slotCount) {
+                        last = next;
+                        int slot = next++;
+                        return new SimpleEntry<>(PARAMETERS[ordinals[slot]].getKey(), values[slot]) {
+                            @Override
+                            public Object setValue(Object value) {
+                                values[slot] = value;
+                                return super.setValue(value);
+                            }
+                        };
+                    }
+                    last = -1;
+                    Iterator<Entry<String, Object>> entries = customIterator();
+                    if (!entries.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return entries.next();
+                }
+
+                @Override
+                public void remove() {
+                    if (last >= 0) {
+                        removeSlot(last);
+                        next = last;
+                        last = -1;
+                    } else if (customEntries != null) {
+                        customEntries.remove();
+                    } else {
+                        throw new IllegalStateException();
+                    }
+                }
+
+                private Iterator<Entry<String, Object>> customIterator() {
+                    if (customEntries == null) {
+                        customEntries = custom != null
+                                ? custom.entrySet().iterator()
+                                : Map.<String, Object>of().entrySet().iterator();
+                    }
+                    return customEntries;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return MessageParameters.this.size();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.fluentval.validator.message;
+
+import com.fluentval.validator.ValidationIdentifier;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+/**
+ * Locale-aware implementation of ValidationMessageProvider that reads message templates
+ * from {@code .properties} resource bundles, loading and compiling each locale on first use.
+ *
+ * <p>Bundles are plain properties files keyed by validation code and use the same placeholder
+ * syntax as {@link DefaultMessageProvider}. They are located with the standard
+ * {@link ResourceBundle} naming and parent chain, so a request for {@code de_AT} reads
+ * {@code validation_de_AT.properties}, then {@code validation_de.properties}, then the base
+ * {@code validation.properties}. Properties files are read as UTF-8.</p>
+ *
+ * <p><strong>Key Features:</strong></p>
+ * <ul>
+ * <li><strong>Lazy Loading</strong> - No template is compiled until a message is requested in its locale;
+ * declaring the supported codes reads only the keys of the default-locale bundle</li>
+ * <li><strong>Compile Once</strong> - Every template of a bundle is compiled when the bundle is loaded</li>
+ * <li><strong>Bounded Cache</strong> - At most {@code maxCachedLocales} compiled bundles are retained;
+ * the least recently used locale is evicted first</li>
+ * <li><strong>Fallback</strong> - Codes missing from a bundle, or locales without any bundle, are
+ * rendered by the fallback provider, the built-in English messages by default</li>
+ * </ul>
+ *
+ * <p><strong>Thread Safety:</strong> This provider is thread-safe. Cached bundles are immutable;
+ * lookups take a short lock, and loading happens outside the lock, so a slow load never blocks
+ * messages in other locales. Two threads requesting the same uncached locale concurrently may
+ * both load it, and one of the results is kept.</p>
+ *
+ * <p><strong>Example Usage:</strong></p>
+ * <pre>{@code
+ * // messages/validation_de.properties:
+ * //   string.not_blank=Feld '{field}' darf nicht leer sein
+ * ValidationMessageRegistry registry = new DefaultValidationMessageRegistry(
+ *         new ResourceBundleMessageProvider("messages/validation"));
+ * String message = registry.getMessage("string.not_blank", identifier, params, Locale.GERMAN);
+ * }</pre>
+ *
+ * @author Matej Šarić
+ * @since 1.2.3
+ * @see ValidationMessageProvider
+ * @see DefaultMessageProvider
+ * @see ResourceBundle
+ */
+public class ResourceBundleMessageProvider implements ValidationMessageProvider {
+
+    /**
+     * Number of compiled bundles retained by default.
+     */
+    public static final int DEFAULT_MAX_CACHED_LOCALES = 32;
+
+    /**
+     * Control restricting lookup to properties files without falling back to the JVM default locale,
+     * so a locale without a bundle resolves to the base bundle rather than to an unrelated language.
+     */
+    private static final ResourceBundle.Control CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private final String baseName;
+    private final Locale defaultLocale;
+    private final int maxCachedLocales;
+    private final ClassLoader classLoader;
+    private final ValidationMessageProvider fallbackProvider;
+
+    /**
+     * Compiled bundles keyed by locale in access order; guarded by itself.
+     */
+    private final LinkedHashMap<Locale, Map<String, DefaultMessageProvider.CompiledTemplate>> bundles;
+
+    /**
+     * Creates a provider for the given bundle base name, rendering in the JVM default locale
+     * when no locale is requested and falling back to the built-in English messages.
+     *
+     * @param baseName the resource bundle base name, e.g. {@code "messages/validation"}
+     * @throws NullPointerException if baseName is null
+     */
+    public ResourceBundleMessageProvider(String baseName) {
+        this(baseName, Locale.getDefault(), DEFAULT_MAX_CACHED_LOCALES,
+                ResourceBundleMessageProvider.class.getClassLoader(), new DefaultMessageProvider());
+    }
+
+    /**
+     * Creates a provider with full control over locale resolution and caching.
+     *
+     * @param baseName the resource bundle base name, e.g. {@code "messages/validation"}
+     * @param defaultLocale the locale used by the methods without a locale argument
+     * @param maxCachedLocales the maximum number of compiled bundles to retain
+     * @param classLoader the class loader to load the bundles from
+     * @param fallbackProvider the provider rendering codes missing from a bundle
+     * @throws NullPointerException if any reference argument is null
+     * @throws IllegalArgumentException if maxCachedLocales is not positive
+     */
+    public ResourceBundleMessageProvider(String baseName, Locale defaultLocale, int maxCachedLocales,
+                                         ClassLoader classLoader, ValidationMessageProvider fallbackProvider) {
+        if (maxCachedLocales <= 0) {
+            throw new IllegalArgumentException("Maximum cached locales must be positive");
+        }
+        this.baseName = Objects.requireNonNull(baseName, "Base name must not be null");
+        this.defaultLocale = Objects.requireNonNull(defaultLocale, "Default locale must not be null");
+        this.maxCachedLocales = maxCachedLocales;
+        this.classLoader = Objects.requireNonNull(classLoader, "Class loader must not be null");
+        this.fallbackProvider = Objects.requireNonNull(fallbackProvider, "Fallback provider must not be null");
+        this.bundles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Locale, Map<String, DefaultMessageProvider.CompiledTemplate>> eldest) {
+                return size() > ResourceBundleMessageProvider.this.maxCachedLocales;
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Renders the message in the default locale of this provider.</p>
+     */
+    @Override
+    public String getMessage(String code, ValidationIdentifier identifier, Map<String, Object> parameters) {
+        return getMessage(code, identifier, parameters, defaultLocale);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Looks the code up in the compiled bundle of the locale, loading the bundle on first use,
+     * and delegates to the fallback provider if the bundle has no template for the code.</p>
+     */
+    @Override
+    public String getMessage(String code, ValidationIdentifier identifier, Map<String, Object> parameters, Locale locale) {
+        DefaultMessageProvider.CompiledTemplate template = bundleFor(locale).get(code);
+        if (template == null) {
+            return fallbackProvider.getMessage(code, identifier, parameters, locale);
+        }
+        return DefaultMessageProvider.format(template, parameters);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Renders the message in the default locale of this provider directly into the output.</p>
+     */
+    @Override
+    public void appendMessage(Appendable out, String code, ValidationIdentifier identifier, Map<String, Object> parameters) {
+        appendMessage(out, code, identifier, parameters, defaultLocale);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Renders the compiled template of the locale directly into the output, loading the bundle
+     * on first use, and delegates to the fallback provider if the bundle has no template for the code.</p>
+     */
+    @Override
+    public void appendMessage(Appendable out, String code, ValidationIdentifier identifier,
+                              Map<String, Object> parameters, Locale locale) {
+        Objects.requireNonNull(out, "Output must not be null");
+        DefaultMessageProvider.CompiledTemplate template = bundleFor(locale).get(code);
+        if (template == null) {
+            fallbackProvider.appendMessage(out, code, identifier, parameters, locale);
+            return;
+        }
+        try {
+            DefaultMessageProvider.render(template, parameters, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Returns {@code true} if the fallback provider or the bundle of the default locale
+     * has a template for the code. The bundle is consulted only for codes the fallback provider
+     * does not support, and only its keys are read; no template is compiled.</p>
+     */
+    @Override
+    public boolean supports(String code) {
+        return fallbackProvider.supports(code) || defaultLocaleCodes().contains(code);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Returns the codes of the default-locale bundle together with the codes of the fallback
+     * provider, or {@code null} if the fallback provider does not declare its codes. Only the keys
+     * of the bundle are read; no template is compiled.</p>
+     */
+    @Override
+    public Collection<String> supportedCodes() {
+        Collection<String> fallbackCodes = fallbackProvider.supportedCodes();
+        if (fallbackCodes == null) {
+            return null;
+        }
+        Set<String> codes = new HashSet<>(fallbackCodes);
+        codes.addAll(defaultLocaleCodes());
+        return Collections.unmodifiableSet(codes);
+    }
+
+    /**
+     * Returns the codes of the default-locale bundle, taken from the compiled bundle if it is cached
+     * and otherwise read from the resource bundle without compiling or caching its templates.
+     *
+     * @return the codes of the default-locale bundle, possibly empty
+     */
+    private Set<String> defaultLocaleCodes() {
+        Map<String, DefaultMessageProvider.CompiledTemplate> bundle;
+        synchronized (bundles) {
+            bundle = bundles.get(defaultLocale);
+        }
+        if (bundle != null) {
+            return bundle.keySet();
+        }
+        ResourceBundle resourceBundle = resourceBundle(defaultLocale);
+        return resourceBundle != null ? resourceBundle.keySet() : Set.of();
+    }
+
+    /**
+     * Returns the compiled bundle of the locale, loading and caching it on first use.
+     *
+     * @param locale the requested locale
+     * @return the compiled templates of the locale, possibly empty
+     */
+    private Map<String, DefaultMessageProvider.CompiledTemplate> bundleFor(Locale locale) {
+        Objects.requireNonNull(locale, "Locale must not be null");
+        Map<String, DefaultMessageProvider.CompiledTemplate> bundle;
+        synchronized (bundles) {
+            bundle = bundles.get(locale);
+        }
+        if (bundle != null) {
+            return bundle;
+        }
+
+        Map<String, DefaultMessageProvider.CompiledTemplate> loaded = load(locale);
+        synchronized (bundles) {
+            bundle = bundles.putIfAbsent(locale, loaded);
+        }
+        return bundle != null ? bundle : loaded;
+    }
+
+    /**
+     * Reads and compiles the bundle of the locale, including the templates inherited from its parents.
+     *
+     * @param locale the locale to load
+     * @return the compiled templates, or an empty map if no bundle exists
+     */
+    private Map<String, DefaultMessageProvider.CompiledTemplate> load(Locale locale) {
+        ResourceBundle bundle = resourceBundle(locale);
+        if (bundle == null) {
+            return Map.of();
+        }
+
+        Map<String, String> templates = new HashMap<>();
+        for (String code : bundle.keySet()) {
+            templates.put(code, bundle.getString(code));
+        }
+        return DefaultMessageProvider.compileAll(templates);
+    }
+
+    /**
+     * Locates the resource bundle of the locale along its parent chain.
+     *
+     * @param locale the locale to look up
+     * @return the resource bundle, or {@code null} if no bundle exists
+     */
+    private ResourceBundle resourceBundle(Locale locale) {
+        try {
+            return ResourceBundle.getBundle(baseName, locale, classLoader, CONTROL);
+        } catch (MissingResourceException e) {
+            return null;
+        }
+    }
+}
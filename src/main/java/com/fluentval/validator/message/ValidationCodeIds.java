@@ -0,0 +1,79 @@
+package com.fluentval.validator.message;
+
+import com.fluentval.validator.metadata.DefaultValidationCode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns dense integer ids to validation codes so that per-code tables can be plain arrays.
+ *
+ * <p>The standard codes take their {@link DefaultValidationCode#getId() ids}
+ * {@code 0 .. DefaultValidationCode.values().length - 1}, shared by all instances. Custom codes
+ * receive the next free id of an instance the first time they are {@linkplain #register(String)
+ * registered} with it. Each registry owns its instance, so custom ids are never reused within a
+ * registry and are released together with it. Looking up a code does not register it, so
+ * rendering messages for arbitrary codes does not grow the table.</p>
+ *
+ * @author Matej Šarić
+ * @since 1.2.3
+ * @see DefaultValidationMessageRegistry
+ */
+final class ValidationCodeIds {
+
+    /**
+     * Ids of the standard codes; never modified after class initialization.
+     */
+    private static final Map<String, Integer> STANDARD_IDS = new HashMap<>();
+
+    static {
+        for (DefaultValidationCode code : DefaultValidationCode.values()) {
+            STANDARD_IDS.put(code.getCode(), code.getId());
+        }
+    }
+
+    /**
+     * Ids of the custom codes registered with this instance.
+     */
+    private final ConcurrentMap<String, Integer> customIds = new ConcurrentHashMap<>();
+
+    /**
+     * The next id to assign to a custom code.
+     */
+    private final AtomicInteger nextId = new AtomicInteger(DefaultValidationCode.values().length);
+
+    /**
+     * Returns the id of the code, assigning a new one if the code is not known yet.
+     *
+     * @param code the validation code
+     * @return the dense id of the code
+     * @throws NullPointerException if code is null
+     */
+    int register(String code) {
+        int id = idOf(code);
+        if (id < 0) {
+            id = customIds.computeIfAbsent(code, ignored -> nextId.getAndIncrement());
+        }
+        return id;
+    }
+
+    /**
+     * Returns the id of a known code.
+     *
+     * @param code the validation code
+     * @return the dense id of the code, or -1 if the code is neither standard nor registered
+     */
+    int idOf(String code) {
+        if (code == null) {
+            return -1;
+        }
+        Integer id = STANDARD_IDS.get(code);
+        if (id == null) {
+            id = customIds.get(code);
+        }
+        return id != null ? id : -1;
+    }
+}
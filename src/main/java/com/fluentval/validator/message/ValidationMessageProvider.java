@@ -2,6 +2,10 @@ package com.fluentval.validator.message;
 
 import com.fluentval.validator.ValidationIdentifier;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -76,6 +80,83 @@ public interface ValidationMessageProvider {
      */
     String getMessage(String code, ValidationIdentifier identifier, Map<String, Object> parameters);
 
+    /**
+     * Renders the error message for the specified validation failure into the given output.
+     *
+     * <p>This is the streaming counterpart of {@link #getMessage}: the message is appended to
+     * a caller-supplied {@link Appendable}, such as a response buffer or a shared
+     * {@link StringBuilder}, so rendering many failures does not allocate one builder
+     * and one intermediate string per message.</p>
+     *
+     * <p>The default implementation appends the result of {@link #getMessage}; implementations
+     * that render templates should override it to write directly to the output.</p>
+     *
+     * <p><strong>Example Usage:</strong></p>
+     * <pre>{@code
+     * StringBuilder body = new StringBuilder();
+     * for (ValidationResult.Failure failure : result.getFailures()) {
+     *     ValidationMetadata metadata = failure.getValidationMetadata();
+     *     provider.appendMessage(body, metadata.getErrorCode(), metadata.getIdentifier(),
+     *             metadata.getMessageParameters());
+     *     body.append('\n');
+     * }
+     * }</pre>
+     *
+     * @param out the output to append the message to
+     * @param code the validation code identifying the type of validation failure
+     * @param identifier the validation identifier providing context about what was validated
+     * @param parameters a map of parameter names to values for template substitution
+     * @throws NullPointerException if out, identifier or parameters is null
+     * @throws UncheckedIOException if appending to the output fails
+     */
+    default void appendMessage(Appendable out, String code, ValidationIdentifier identifier, Map<String, Object> parameters) {
+        try {
+            out.append(getMessage(code, identifier, parameters));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generates the error message for the specified validation failure in the requested locale.
+     *
+     * <p>The default implementation ignores the locale and delegates to
+     * {@link #getMessage(String, ValidationIdentifier, Map)}, which suits providers serving a
+     * single language. Localized providers such as {@link ResourceBundleMessageProvider}
+     * override it to select the templates of the locale.</p>
+     *
+     * @param code the validation code identifying the type of validation failure
+     * @param identifier the validation identifier providing context about what was validated
+     * @param parameters map of parameter names to values for message template substitution
+     * @param locale the locale to render the message in
+     * @return a human-readable error message in the requested locale, if available
+     */
+    default String getMessage(String code, ValidationIdentifier identifier, Map<String, Object> parameters, Locale locale) {
+        return getMessage(code, identifier, parameters);
+    }
+
+    /**
+     * Renders the error message for the specified validation failure in the requested locale
+     * into the given output.
+     *
+     * <p>The default implementation ignores the locale and delegates to
+     * {@link #appendMessage(Appendable, String, ValidationIdentifier, Map)}, matching
+     * {@link #getMessage(String, ValidationIdentifier, Map, Locale)}. Localized providers
+     * override it to render the templates of the locale.</p>
+     *
+     * @param out the output to append the message to
+     * @param code the validation code identifying the type of validation failure
+     * @param identifier the validation identifier providing context about what was validated
+     * @param parameters map of parameter names to values for message template substitution
+     * @param locale the locale to render the message in
+     * @throws NullPointerException if out, identifier, parameters or locale is null
+     * @throws UncheckedIOException if appending to the output fails
+     */
+    default void appendMessage(Appendable out, String code, ValidationIdentifier identifier,
+                               Map<String, Object> parameters, Locale locale) {
+        appendMessage(out, code, identifier, parameters);
+    }
+
     /**
      * Determines whether this provider can handle the specified validation code.
      *
@@ -99,4 +180,18 @@ public interface ValidationMessageProvider {
      * @throws IllegalArgumentException if the code is null
      */
     boolean supports(String code);
+
+    /**
+     * Returns the validation codes this provider has messages for, if it can enumerate them.
+     *
+     * <p>Registries use this declaration to map the provider directly to its codes instead of
+     * calling {@link #supports(String)} for every known code. Returning {@code null} means the
+     * provider does not declare its codes, and registries fall back to testing the standard
+     * {@link com.fluentval.validator.metadata.DefaultValidationCode} values.</p>
+     *
+     * @return the supported validation codes, or {@code null} if they are not declared
+     */
+    default Collection<String> supportedCodes() {
+        return null;
+    }
 }
\ No newline at end of file
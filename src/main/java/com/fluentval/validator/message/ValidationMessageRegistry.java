@@ -1,7 +1,11 @@
 package com.fluentval.validator.message;
 
 import com.fluentval.validator.ValidationIdentifier;
+import com.fluentval.validator.metadata.ValidationMetadata;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -159,6 +163,144 @@ public interface ValidationMessageRegistry {
      */
     String getMessage(String code, ValidationIdentifier identifier, Map<String, Object> parameters);
 
+    /**
+     * Retrieves the validation error message for the specified validation failure in the
+     * requested locale, using the same provider selection as {@link #getMessage(String, ValidationIdentifier, Map)}.
+     *
+     * <p>The default implementation ignores the locale; implementations should delegate to
+     * {@link ValidationMessageProvider#getMessage(String, ValidationIdentifier, Map, Locale)}
+     * of the selected provider.</p>
+     *
+     * <p><strong>Example Usage:</strong></p>
+     * <pre>{@code
+     * registry.setValidationMessageProvider(new ResourceBundleMessageProvider("messages/validation"));
+     * String message = registry.getMessage("string.min_length", identifier, params, Locale.GERMAN);
+     * }</pre>
+     *
+     * @param code       the validation code identifying the type of validation failure
+     * @param identifier the validation identifier providing context about what was validated
+     * @param parameters map of parameter names to values for message template substitution
+     * @param locale     the locale to render the message in
+     * @return error message generated by the appropriate provider in the requested locale, if available
+     * @throws NullPointerException if code, identifier, parameters, or locale is null
+     */
+    default String getMessage(String code, ValidationIdentifier identifier, Map<String, Object> parameters, Locale locale) {
+        return getMessage(code, identifier, parameters);
+    }
+
+    /**
+     * Renders the error message for the specified validation failure into the given output,
+     * using the same provider selection as {@link #getMessage}.
+     *
+     * <p>Use this method to stream many messages into one buffer without allocating an
+     * intermediate string per message. The default implementation appends the result of
+     * {@link #getMessage}; implementations should delegate to
+     * {@link ValidationMessageProvider#appendMessage} of the selected provider.</p>
+     *
+     * @param out        the output to append the message to
+     * @param code       the validation code identifying the type of validation failure
+     * @param identifier the validation identifier providing context about what was validated
+     * @param parameters map of parameter names to values for message template substitution
+     * @throws NullPointerException if out, code, identifier, or parameters is null
+     * @throws UncheckedIOException if appending to the output fails
+     */
+    default void appendMessage(Appendable out, String code, ValidationIdentifier identifier, Map<String, Object> parameters) {
+        try {
+            out.append(getMessage(code, identifier, parameters));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Renders the error message for the specified validation failure in the requested locale
+     * into the given output, using the same provider selection as {@link #getMessage}.
+     *
+     * <p>The default implementation appends the result of
+     * {@link #getMessage(String, ValidationIdentifier, Map, Locale)}; implementations should delegate to
+     * {@link ValidationMessageProvider#appendMessage(Appendable, String, ValidationIdentifier, Map, Locale)}
+     * of the selected provider.</p>
+     *
+     * @param out        the output to append the message to
+     * @param code       the validation code identifying the type of validation failure
+     * @param identifier the validation identifier providing context about what was validated
+     * @param parameters map of parameter names to values for message template substitution
+     * @param locale     the locale to render the message in
+     * @throws NullPointerException if out, code, identifier, parameters, or locale is null
+     * @throws UncheckedIOException if appending to the output fails
+     */
+    default void appendMessage(Appendable out, String code, ValidationIdentifier identifier,
+                               Map<String, Object> parameters, Locale locale) {
+        try {
+            out.append(getMessage(code, identifier, parameters, locale));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Retrieves the validation error message for the failure described by the metadata.
+     *
+     * <p>Equivalent to {@link #getMessage(String, ValidationIdentifier, Map)} with the metadata's
+     * error code, identifier and message parameters. Implementations may use the
+     * {@link ValidationMetadata#getErrorCodeId() code id} carried by the metadata to select
+     * the provider without resolving the code string.</p>
+     *
+     * <p><strong>Example Usage:</strong></p>
+     * <pre>{@code
+     * for (ValidationResult.Failure failure : result.getFailures()) {
+     *     System.out.println(registry.getMessage(failure.getValidationMetadata()));
+     * }
+     * }</pre>
+     *
+     * @param metadata the metadata of the validation failure
+     * @return error message generated by the appropriate provider
+     * @throws NullPointerException if metadata is null
+     */
+    default String getMessage(ValidationMetadata metadata) {
+        return getMessage(metadata.getErrorCode(), metadata.getIdentifier(), metadata.getMessageParameters());
+    }
+
+    /**
+     * Retrieves the validation error message for the failure described by the metadata in the
+     * requested locale, using the same provider selection as {@link #getMessage(ValidationMetadata)}.
+     *
+     * @param metadata the metadata of the validation failure
+     * @param locale   the locale to render the message in
+     * @return error message generated by the appropriate provider in the requested locale, if available
+     * @throws NullPointerException if metadata or locale is null
+     */
+    default String getMessage(ValidationMetadata metadata, Locale locale) {
+        return getMessage(metadata.getErrorCode(), metadata.getIdentifier(), metadata.getMessageParameters(), locale);
+    }
+
+    /**
+     * Renders the error message for the failure described by the metadata into the given output,
+     * using the same provider selection as {@link #getMessage(ValidationMetadata)}.
+     *
+     * @param out      the output to append the message to
+     * @param metadata the metadata of the validation failure
+     * @throws NullPointerException if out or metadata is null
+     * @throws UncheckedIOException if appending to the output fails
+     */
+    default void appendMessage(Appendable out, ValidationMetadata metadata) {
+        appendMessage(out, metadata.getErrorCode(), metadata.getIdentifier(), metadata.getMessageParameters());
+    }
+
+    /**
+     * Renders the error message for the failure described by the metadata in the requested locale
+     * into the given output, using the same provider selection as {@link #getMessage(ValidationMetadata)}.
+     *
+     * @param out      the output to append the message to
+     * @param metadata the metadata of the validation failure
+     * @param locale   the locale to render the message in
+     * @throws NullPointerException if out, metadata or locale is null
+     * @throws UncheckedIOException if appending to the output fails
+     */
+    default void appendMessage(Appendable out, ValidationMetadata metadata, Locale locale) {
+        appendMessage(out, metadata.getErrorCode(), metadata.getIdentifier(), metadata.getMessageParameters(), locale);
+    }
+
     /**
      * Sets the default validation message provider used as a fallback when no
      * specialized provider is available for a particular validation code.
@@ -6,6 +6,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -45,10 +46,7 @@ public abstract class AllowedValuesValidationMetadata extends ValidationMetadata
      */
     protected AllowedValuesValidationMetadata(ValidationIdentifier identifier,
                                               DefaultValidationCode code) {
-        super(identifier, code.getCode());
-
-        // Always add the field identifier as a parameter
-        addMessageParameter(MessageParameter.FIELD, identifier.value());
+        super(identifier, code);
     }
 
     /**
@@ -115,7 +113,7 @@ public abstract class AllowedValuesValidationMetadata extends ValidationMetadata
          */
         private Contains(ValidationIdentifier identifier, Set<T> allowedValues, String allowedValuesString) {
             super(identifier, DefaultValidationCode.ALLOWED_VALUES_CONTAINS);
-            this.allowedValues = new HashSet<>(allowedValues);
+            this.allowedValues = allowedValues;
             this.allowedValuesString = allowedValuesString;
 
             // Add message parameters
@@ -262,7 +260,7 @@ public abstract class AllowedValuesValidationMetadata extends ValidationMetadata
          */
         private NotContains(ValidationIdentifier identifier, Set<T> disallowedValues, String disallowedValuesString) {
             super(identifier, DefaultValidationCode.NOT_CONTAINS);
-            this.disallowedValues = new HashSet<>(disallowedValues);
+            this.disallowedValues = disallowedValues;
             this.disallowedValuesString = disallowedValuesString;
 
             // Add message parameters
@@ -409,6 +407,11 @@ public abstract class AllowedValuesValidationMetadata extends ValidationMetadata
          */
         private final Set<E> enumValues;
 
+        /**
+         * The formatted list of allowed enum constants used in error messages.
+         */
+        private final String valuesString;
+
         /**
          * Private constructor for creating IsInEnum metadata instances.
          *
@@ -420,12 +423,16 @@ public abstract class AllowedValuesValidationMetadata extends ValidationMetadata
          * @param enumClass the enum class defining allowed values
          */
         private IsInEnum(ValidationIdentifier identifier, Class<E> enumClass) {
+            this(identifier, enumClass, EnumSet.allOf(enumClass), createEnumValuesString(enumClass));
+        }
+
+        private IsInEnum(ValidationIdentifier identifier, Class<E> enumClass, Set<E> enumValues, String valuesString) {
             super(identifier, DefaultValidationCode.IS_IN_ENUM);
             this.enumClass = enumClass;
-            this.enumValues = EnumSet.allOf(enumClass);
+            this.enumValues = enumValues;
+            this.valuesString = valuesString;
 
             // Add message parameters
-            String valuesString = createEnumValuesString(enumClass);
             addMessageParameter(MessageParameter.ALLOWED_VALUES, valuesString);
             addMessageParameter(MessageParameter.CLASS_NAME, enumClass.getSimpleName());
         }
@@ -452,7 +459,7 @@ public abstract class AllowedValuesValidationMetadata extends ValidationMetadata
          * @return string representation of allowed enum values
          */
         public String getValuesString() {
-            return createEnumValuesString(enumClass);
+            return valuesString;
         }
 
         /**
@@ -498,7 +505,7 @@ public abstract class AllowedValuesValidationMetadata extends ValidationMetadata
             throw new IllegalArgumentException("Allowed values set must not be empty");
         }
 
-        return new Contains<>(identifier, allowedValues, allowedValuesString);
+        return new Contains<>(identifier, new HashSet<>(allowedValues), allowedValuesString);
     }
 
     /**
@@ -545,7 +552,7 @@ public abstract class AllowedValuesValidationMetadata extends ValidationMetadata
             throw new IllegalArgumentException("Disallowed values set must not be empty");
         }
 
-        return new NotContains<>(identifier, disallowedValues, disallowedValuesString);
+        return new NotContains<>(identifier, new HashSet<>(disallowedValues), disallowedValuesString);
     }
 
     /**
@@ -587,4 +594,126 @@ public abstract class AllowedValuesValidationMetadata extends ValidationMetadata
 
         return new IsInEnum<>(identifier, enumClass);
     }
-}
\ No newline at end of file
+
+    // Failure templates
+
+    /**
+     * Creates a failure template for Contains metadata.
+     *
+     * <p>The allowed values are copied once into a read-only set that every failure created
+     * from the template shares, so a failure only binds its identifier. Intended to be
+     * created once per rule.</p>
+     *
+     * @param <T> the type of allowed values
+     * @param allowedValues the set of allowed values
+     * @param allowedValuesString string representation of allowed values for error messages
+     * @return function creating Contains metadata for an identifier
+     * @throws NullPointerException if allowedValues or allowedValuesString is null
+     * @throws IllegalArgumentException if allowedValues is empty
+     */
+    public static <T> Function<ValidationIdentifier, Contains<T>> containsTemplate(Set<T> allowedValues, String allowedValuesString) {
+        Objects.requireNonNull(allowedValues, "Allowed values set must not be null");
+        Objects.requireNonNull(allowedValuesString, "Allowed values string must not be null");
+        if (allowedValues.isEmpty()) {
+            throw new IllegalArgumentException("Allowed values set must not be empty");
+        }
+        Set<T> values = Collections.unmodifiableSet(new HashSet<>(allowedValues));
+
+        return identifier -> new Contains<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                values, allowedValuesString);
+    }
+
+    /**
+     * Creates a failure template for OneOf metadata.
+     *
+     * @param <T> the type of allowed values
+     * @param allowedValuesString string representation of allowed values for error messages
+     * @param allowedValues the array of allowed values
+     * @return function creating OneOf metadata for an identifier
+     * @throws NullPointerException if allowedValuesString or allowedValues is null
+     * @throws IllegalArgumentException if allowedValues is empty
+     * @see #containsTemplate(Set, String)
+     */
+    public static <T> Function<ValidationIdentifier, OneOf<T>> oneOfTemplate(String allowedValuesString, T[] allowedValues) {
+        Objects.requireNonNull(allowedValuesString, "Allowed values string must not be null");
+        Objects.requireNonNull(allowedValues, "Allowed values array must not be null");
+        if (allowedValues.length == 0) {
+            throw new IllegalArgumentException("Allowed values array must not be empty");
+        }
+        T[] values = allowedValues.clone();
+
+        return identifier -> new OneOf<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                allowedValuesString, values);
+    }
+
+    /**
+     * Creates a failure template for NotContains metadata.
+     *
+     * @param <T> the type of disallowed values
+     * @param disallowedValues the set of disallowed values
+     * @param disallowedValuesString string representation of disallowed values for error messages
+     * @return function creating NotContains metadata for an identifier
+     * @throws NullPointerException if disallowedValues or disallowedValuesString is null
+     * @throws IllegalArgumentException if disallowedValues is empty
+     * @see #containsTemplate(Set, String)
+     */
+    public static <T> Function<ValidationIdentifier, NotContains<T>> notContainsTemplate(Set<T> disallowedValues, String disallowedValuesString) {
+        Objects.requireNonNull(disallowedValues, "Disallowed values set must not be null");
+        Objects.requireNonNull(disallowedValuesString, "Disallowed values string must not be null");
+        if (disallowedValues.isEmpty()) {
+            throw new IllegalArgumentException("Disallowed values set must not be empty");
+        }
+        Set<T> values = Collections.unmodifiableSet(new HashSet<>(disallowedValues));
+
+        return identifier -> new NotContains<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                values, disallowedValuesString);
+    }
+
+    /**
+     * Creates a failure template for NoneOf metadata.
+     *
+     * @param <T> the type of disallowed values
+     * @param disallowedValuesString string representation of disallowed values for error messages
+     * @param disallowedValues the array of disallowed values
+     * @return function creating NoneOf metadata for an identifier
+     * @throws NullPointerException if disallowedValuesString or disallowedValues is null
+     * @throws IllegalArgumentException if disallowedValues is empty
+     * @see #containsTemplate(Set, String)
+     */
+    public static <T> Function<ValidationIdentifier, NoneOf<T>> noneOfTemplate(String disallowedValuesString, T[] disallowedValues) {
+        Objects.requireNonNull(disallowedValuesString, "Disallowed values string must not be null");
+        Objects.requireNonNull(disallowedValues, "Disallowed values array must not be null");
+        if (disallowedValues.length == 0) {
+            throw new IllegalArgumentException("Disallowed values array must not be empty");
+        }
+        T[] values = disallowedValues.clone();
+
+        return identifier -> new NoneOf<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                disallowedValuesString, values);
+    }
+
+    /**
+     * Creates a failure template for IsInEnum metadata.
+     *
+     * <p>The enum constants and their formatted list are computed once for the template.</p>
+     *
+     * @param <E> the enum type
+     * @param enumClass the enum class whose constants are valid
+     * @return function creating IsInEnum metadata for an identifier
+     * @throws NullPointerException if enumClass is null
+     * @see #containsTemplate(Set, String)
+     */
+    public static <E extends Enum<E>> Function<ValidationIdentifier, IsInEnum<E>> isInEnumTemplate(Class<E> enumClass) {
+        Objects.requireNonNull(enumClass, "Enum class must not be null");
+        Set<E> enumValues = Collections.unmodifiableSet(EnumSet.allOf(enumClass));
+        String valuesString = IsInEnum.createEnumValuesString(enumClass);
+
+        return identifier -> new IsInEnum<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                enumClass, enumValues, valuesString);
+    }
+}
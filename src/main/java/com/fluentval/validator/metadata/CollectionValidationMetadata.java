@@ -7,7 +7,10 @@ import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -49,10 +52,7 @@ public abstract class CollectionValidationMetadata extends ValidationMetadata {
      */
     protected CollectionValidationMetadata(ValidationIdentifier identifier,
                                            DefaultValidationCode code) {
-        super(identifier, code.getCode());
-
-        // Always add the field identifier as a parameter
-        addMessageParameter(MessageParameter.FIELD, identifier.value());
+        super(identifier, code);
     }
 
     /**
@@ -542,11 +542,15 @@ public abstract class CollectionValidationMetadata extends ValidationMetadata {
         private final Collection<E> elements;
 
         private ContainsAll(ValidationIdentifier identifier, Collection<E> elements) {
+            this(identifier, new ArrayList<>(elements), elements.toString());
+        }
+
+        private ContainsAll(ValidationIdentifier identifier, Collection<E> elements, String elementsString) {
             super(identifier, DefaultValidationCode.CONTAINS_ALL);
-            this.elements = new ArrayList<>(elements);
+            this.elements = elements;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.ELEMENTS, elements.toString());
+            addMessageParameter(MessageParameter.ELEMENTS, elementsString);
         }
     }
 
@@ -581,11 +585,15 @@ public abstract class CollectionValidationMetadata extends ValidationMetadata {
         private final Collection<E> elements;
 
         private ContainsNone(ValidationIdentifier identifier, Collection<E> elements) {
+            this(identifier, new ArrayList<>(elements), elements.toString());
+        }
+
+        private ContainsNone(ValidationIdentifier identifier, Collection<E> elements, String elementsString) {
             super(identifier, DefaultValidationCode.CONTAINS_NONE);
-            this.elements = new ArrayList<>(elements);
+            this.elements = elements;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.ELEMENTS, elements.toString());
+            addMessageParameter(MessageParameter.ELEMENTS, elementsString);
         }
     }
 
@@ -878,4 +886,55 @@ public abstract class CollectionValidationMetadata extends ValidationMetadata {
         }
         return new ContainsNone<>(identifier, elements);
     }
-}
\ No newline at end of file
+
+    // Failure templates
+
+    /**
+     * Creates a failure template for ContainsAll metadata.
+     *
+     * <p>The elements are copied into a read-only list and formatted once; every failure
+     * created from the template shares them, so a failure only binds its identifier.
+     * Intended to be created once per rule.</p>
+     *
+     * @param <E> the type of elements
+     * @param elements the collection of elements that must all be present
+     * @return function creating ContainsAll metadata for an identifier
+     * @throws NullPointerException if elements is null
+     * @throws IllegalArgumentException if elements is empty
+     */
+    public static <E> Function<ValidationIdentifier, ContainsAll<E>> containsAllTemplate(Collection<E> elements) {
+        Objects.requireNonNull(elements, "Elements collection must not be null");
+        if (elements.isEmpty()) {
+            throw new IllegalArgumentException("Elements collection must not be empty");
+        }
+        List<E> snapshot = Collections.unmodifiableList(new ArrayList<>(elements));
+        String elementsString = snapshot.toString();
+
+        return identifier -> new ContainsAll<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                snapshot, elementsString);
+    }
+
+    /**
+     * Creates a failure template for ContainsNone metadata.
+     *
+     * @param <E> the type of elements
+     * @param elements the collection of elements that must all be absent
+     * @return function creating ContainsNone metadata for an identifier
+     * @throws NullPointerException if elements is null
+     * @throws IllegalArgumentException if elements is empty
+     * @see #containsAllTemplate(Collection)
+     */
+    public static <E> Function<ValidationIdentifier, ContainsNone<E>> containsNoneTemplate(Collection<E> elements) {
+        Objects.requireNonNull(elements, "Elements collection must not be null");
+        if (elements.isEmpty()) {
+            throw new IllegalArgumentException("Elements collection must not be empty");
+        }
+        List<E> snapshot = Collections.unmodifiableList(new ArrayList<>(elements));
+        String elementsString = snapshot.toString();
+
+        return identifier -> new ContainsNone<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                snapshot, elementsString);
+    }
+}
@@ -48,10 +48,7 @@ public abstract class CommonValidationMetadata extends ValidationMetadata {
      */
     protected CommonValidationMetadata(ValidationIdentifier identifier,
                                        DefaultValidationCode code) {
-        super(identifier, code.getCode());
-
-        // Always add the field identifier as a parameter
-        addMessageParameter(MessageParameter.FIELD, identifier.value());
+        super(identifier, code);
     }
 
     /**
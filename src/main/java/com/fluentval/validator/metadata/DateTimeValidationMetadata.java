@@ -54,10 +54,7 @@ public abstract class DateTimeValidationMetadata extends ValidationMetadata {
      */
     protected DateTimeValidationMetadata(ValidationIdentifier identifier,
                                          DefaultValidationCode code) {
-        super(identifier, code.getCode());
-
-        // Always add the field identifier as a parameter
-        addMessageParameter(MessageParameter.FIELD, identifier.value());
+        super(identifier, code);
     }
 
     /**
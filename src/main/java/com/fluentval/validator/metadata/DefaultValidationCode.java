@@ -48,6 +48,7 @@ public enum DefaultValidationCode {
     MIN_LENGTH("string.min_length"),
     EXACT_LENGTH("string.exact_length"),
     MATCHES("string.matches"),
+    MATCHES_BUDGET_EXCEEDED("string.matches_budget_exceeded"),
     ONE_OF("string.one_of"),
     ONE_OF_IGNORE_CASE("string.one_of_ignore_case"),
     STARTS_WITH("string.starts_with"),
@@ -131,4 +132,14 @@ public enum DefaultValidationCode {
 
     private final String code;
 
+    /**
+     * Returns the dense id of this code, its position in declaration order. The standard codes
+     * occupy the ids {@code 0} to {@code values().length - 1}, so message registries can index
+     * per-code tables by it without hashing the code string.
+     *
+     * @return the dense id of this code
+     */
+    public int getId() {
+        return ordinal();
+    }
 }
@@ -7,8 +7,11 @@ import lombok.Getter;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -50,10 +53,7 @@ public abstract class MapValidationMetadata extends ValidationMetadata {
      */
     protected MapValidationMetadata(ValidationIdentifier identifier,
                                     DefaultValidationCode code) {
-        super(identifier, code.getCode());
-
-        // Always add the field identifier as a parameter
-        addMessageParameter(MessageParameter.FIELD, identifier.value());
+        super(identifier, code);
     }
 
     /**
@@ -380,11 +380,15 @@ public abstract class MapValidationMetadata extends ValidationMetadata {
         private final Collection<K> keys;
 
         private ContainsAllKeys(ValidationIdentifier identifier, Collection<K> keys) {
+            this(identifier, new ArrayList<>(keys), keys.toString());
+        }
+
+        private ContainsAllKeys(ValidationIdentifier identifier, Collection<K> keys, String keysString) {
             super(identifier, DefaultValidationCode.CONTAINS_ALL);
-            this.keys = new ArrayList<>(keys);
+            this.keys = keys;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.KEYS, keys.toString());
+            addMessageParameter(MessageParameter.KEYS, keysString);
         }
     }
 
@@ -1289,4 +1293,32 @@ public abstract class MapValidationMetadata extends ValidationMetadata {
         }
         return new NoEntryMatches<>(identifier, condition, description);
     }
-}
\ No newline at end of file
+
+    // Failure templates
+
+    /**
+     * Creates a failure template for ContainsAllKeys metadata.
+     *
+     * <p>The keys are copied into a read-only list and formatted once; every failure created
+     * from the template shares them, so a failure only binds its identifier. Intended to be
+     * created once per rule.</p>
+     *
+     * @param <K> the type of keys
+     * @param keys the collection of keys that must all be present
+     * @return function creating ContainsAllKeys metadata for an identifier
+     * @throws NullPointerException if keys is null
+     * @throws IllegalArgumentException if keys is empty
+     */
+    public static <K> Function<ValidationIdentifier, ContainsAllKeys<K>> containsAllKeysTemplate(Collection<K> keys) {
+        Objects.requireNonNull(keys, "Keys collection must not be null");
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("Keys collection must not be empty");
+        }
+        List<K> snapshot = Collections.unmodifiableList(new ArrayList<>(keys));
+        String keysString = snapshot.toString();
+
+        return identifier -> new ContainsAllKeys<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                snapshot, keysString);
+    }
+}
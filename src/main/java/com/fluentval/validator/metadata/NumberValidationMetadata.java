@@ -6,6 +6,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Abstract base class for validation metadata related to numeric constraints and validations.
@@ -52,10 +53,7 @@ public abstract class NumberValidationMetadata extends ValidationMetadata {
      */
     protected NumberValidationMetadata(ValidationIdentifier identifier,
                                        DefaultValidationCode code) {
-        super(identifier, code.getCode());
-
-        // Always add the field identifier as a parameter
-        addMessageParameter(MessageParameter.FIELD, identifier.value());
+        super(identifier, code);
     }
 
     /**
@@ -91,11 +89,15 @@ public abstract class NumberValidationMetadata extends ValidationMetadata {
         private final T minimum;
 
         private Min(ValidationIdentifier identifier, T minimum) {
+            this(identifier, minimum, minimum.toString());
+        }
+
+        private Min(ValidationIdentifier identifier, T minimum, String formattedMinimum) {
             super(identifier, DefaultValidationCode.MIN);
             this.minimum = minimum;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.MIN, minimum.toString());
+            addMessageParameter(MessageParameter.MIN, formattedMinimum);
         }
     }
 
@@ -132,11 +134,15 @@ public abstract class NumberValidationMetadata extends ValidationMetadata {
         private final T maximum;
 
         private Max(ValidationIdentifier identifier, T maximum) {
+            this(identifier, maximum, maximum.toString());
+        }
+
+        private Max(ValidationIdentifier identifier, T maximum, String formattedMaximum) {
             super(identifier, DefaultValidationCode.MAX);
             this.maximum = maximum;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.MAX, maximum.toString());
+            addMessageParameter(MessageParameter.MAX, formattedMaximum);
         }
     }
 
@@ -181,13 +187,17 @@ public abstract class NumberValidationMetadata extends ValidationMetadata {
         private final T max;
 
         private Range(ValidationIdentifier identifier, T min, T max) {
+            this(identifier, min, max, min.toString(), max.toString());
+        }
+
+        private Range(ValidationIdentifier identifier, T min, T max, String formattedMin, String formattedMax) {
             super(identifier, DefaultValidationCode.RANGE);
             this.min = min;
             this.max = max;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.MIN, min.toString());
-            addMessageParameter(MessageParameter.MAX, max.toString());
+            addMessageParameter(MessageParameter.MIN, formattedMin);
+            addMessageParameter(MessageParameter.MAX, formattedMax);
         }
     }
 
@@ -411,4 +421,70 @@ public abstract class NumberValidationMetadata extends ValidationMetadata {
 
         return new NotZero(identifier);
     }
-}
\ No newline at end of file
+
+    // Failure templates
+
+    /**
+     * Creates a failure template for Min metadata.
+     *
+     * <p>The bound is formatted once, so each failure created from the template only binds
+     * its identifier. Intended to be created once per rule.</p>
+     *
+     * @param <T> the numeric type
+     * @param min the minimum allowed value
+     * @return function creating Min metadata for an identifier
+     * @throws NullPointerException if min is null
+     */
+    public static <T extends Number & Comparable<T>> Function<ValidationIdentifier, Min<T>> minTemplate(T min) {
+        Objects.requireNonNull(min, "Minimum value must not be null");
+        String formatted = min.toString();
+
+        return identifier -> new Min<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                min, formatted);
+    }
+
+    /**
+     * Creates a failure template for Max metadata.
+     *
+     * @param <T> the numeric type
+     * @param max the maximum allowed value
+     * @return function creating Max metadata for an identifier
+     * @throws NullPointerException if max is null
+     * @see #minTemplate(Number)
+     */
+    public static <T extends Number & Comparable<T>> Function<ValidationIdentifier, Max<T>> maxTemplate(T max) {
+        Objects.requireNonNull(max, "Maximum value must not be null");
+        String formatted = max.toString();
+
+        return identifier -> new Max<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                max, formatted);
+    }
+
+    /**
+     * Creates a failure template for Range metadata.
+     *
+     * @param <T> the numeric type
+     * @param min the minimum allowed value
+     * @param max the maximum allowed value
+     * @return function creating Range metadata for an identifier
+     * @throws NullPointerException if min or max is null
+     * @throws IllegalArgumentException if min is greater than max
+     * @see #minTemplate(Number)
+     */
+    public static <T extends Number & Comparable<T>> Function<ValidationIdentifier, Range<T>> rangeTemplate(T min, T max) {
+        Objects.requireNonNull(min, "Minimum value must not be null");
+        Objects.requireNonNull(max, "Maximum value must not be null");
+
+        if (min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Minimum value must be less than or equal to maximum value");
+        }
+        String formattedMin = min.toString();
+        String formattedMax = max.toString();
+
+        return identifier -> new Range<>(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                min, max, formattedMin, formattedMax);
+    }
+}
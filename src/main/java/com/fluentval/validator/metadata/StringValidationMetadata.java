@@ -6,6 +6,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -51,10 +52,7 @@ public abstract class StringValidationMetadata extends ValidationMetadata {
      */
     protected StringValidationMetadata(ValidationIdentifier identifier,
                                        DefaultValidationCode code) {
-        super(identifier, code.getCode());
-
-        // Always add the field identifier as a parameter
-        addMessageParameter(MessageParameter.FIELD, identifier.value());
+        super(identifier, code);
     }
 
     /**
@@ -127,11 +125,15 @@ public abstract class StringValidationMetadata extends ValidationMetadata {
         private final int maximumLength;
 
         private MaxLength(ValidationIdentifier identifier, int maximumLength) {
+            this(identifier, maximumLength, String.valueOf(maximumLength));
+        }
+
+        private MaxLength(ValidationIdentifier identifier, int maximumLength, String formattedMaxLength) {
             super(identifier, DefaultValidationCode.MAX_LENGTH);
             this.maximumLength = maximumLength;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.MAX_LENGTH, String.valueOf(maximumLength));
+            addMessageParameter(MessageParameter.MAX_LENGTH, formattedMaxLength);
         }
     }
 
@@ -170,11 +172,15 @@ public abstract class StringValidationMetadata extends ValidationMetadata {
         private final int minimumLength;
 
         private MinLength(ValidationIdentifier identifier, int minimumLength) {
+            this(identifier, minimumLength, String.valueOf(minimumLength));
+        }
+
+        private MinLength(ValidationIdentifier identifier, int minimumLength, String formattedMinLength) {
             super(identifier, DefaultValidationCode.MIN_LENGTH);
             this.minimumLength = minimumLength;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.MIN_LENGTH, String.valueOf(minimumLength));
+            addMessageParameter(MessageParameter.MIN_LENGTH, formattedMinLength);
         }
     }
 
@@ -213,11 +219,15 @@ public abstract class StringValidationMetadata extends ValidationMetadata {
         private final int requiredSize;
 
         private ExactLength(ValidationIdentifier identifier, int requiredSize) {
+            this(identifier, requiredSize, String.valueOf(requiredSize));
+        }
+
+        private ExactLength(ValidationIdentifier identifier, int requiredSize, String formattedExactLength) {
             super(identifier, DefaultValidationCode.EXACT_LENGTH);
             this.requiredSize = requiredSize;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.EXACT_LENGTH, String.valueOf(requiredSize));
+            addMessageParameter(MessageParameter.EXACT_LENGTH, formattedExactLength);
         }
     }
 
@@ -266,6 +276,37 @@ public abstract class StringValidationMetadata extends ValidationMetadata {
         }
     }
 
+    /**
+     * Validation metadata for pattern matches abandoned because they exceeded their step budget.
+     *
+     * <p>This class represents failures of guarded pattern rules, which bound the work a single
+     * match may perform. The string was neither accepted nor rejected by the pattern; matching was
+     * stopped because it read more characters than allowed, which typically indicates catastrophic
+     * backtracking on adversarial input.</p>
+     *
+     * <p><strong>Fields:</strong></p>
+     * <ul>
+     * <li><strong>pattern</strong> - {@code Pattern} - The pattern whose match was abandoned</li>
+     * <li><strong>maxSteps</strong> - {@code long} - The number of character reads the match was allowed</li>
+     * </ul>
+     */
+    @Getter
+    @EqualsAndHashCode(callSuper = true)
+    public static final class MatchesBudgetExceeded extends StringValidationMetadata {
+        private final Pattern pattern;
+        private final long maxSteps;
+
+        private MatchesBudgetExceeded(ValidationIdentifier identifier, Pattern pattern, long maxSteps) {
+            super(identifier, DefaultValidationCode.MATCHES_BUDGET_EXCEEDED);
+            this.pattern = pattern;
+            this.maxSteps = maxSteps;
+
+            // Add message parameters
+            addMessageParameter(MessageParameter.PATTERN, pattern.pattern());
+            addMessageParameter(MessageParameter.MAX_STEPS, maxSteps);
+        }
+    }
+
     /**
      * Validation metadata for case-sensitive enumeration constraints.
      *
@@ -301,11 +342,15 @@ public abstract class StringValidationMetadata extends ValidationMetadata {
         private final String[] allowedValues;
 
         private OneOf(ValidationIdentifier identifier, String[] allowedValues) {
+            this(identifier, allowedValues, String.join(", ", allowedValues));
+        }
+
+        private OneOf(ValidationIdentifier identifier, String[] allowedValues, String allowedValuesString) {
             super(identifier, DefaultValidationCode.ONE_OF);
             this.allowedValues = allowedValues;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.ALLOWED_VALUES, String.join(", ", allowedValues));
+            addMessageParameter(MessageParameter.ALLOWED_VALUES, allowedValuesString);
         }
 
         public String[] getAllowedValues() {
@@ -348,11 +393,15 @@ public abstract class StringValidationMetadata extends ValidationMetadata {
         private final String[] allowedValues;
 
         private OneOfIgnoreCase(ValidationIdentifier identifier, String[] allowedValues) {
+            this(identifier, allowedValues, String.join(", ", allowedValues));
+        }
+
+        private OneOfIgnoreCase(ValidationIdentifier identifier, String[] allowedValues, String allowedValuesString) {
             super(identifier, DefaultValidationCode.ONE_OF_IGNORE_CASE);
             this.allowedValues = allowedValues;
 
             // Add message parameters
-            addMessageParameter(MessageParameter.ALLOWED_VALUES, String.join(", ", allowedValues));
+            addMessageParameter(MessageParameter.ALLOWED_VALUES, allowedValuesString);
         }
 
         public String[] getAllowedValues() {
@@ -978,6 +1027,24 @@ public abstract class StringValidationMetadata extends ValidationMetadata {
         return matches(identifier, Pattern.compile(pattern));
     }
 
+    /**
+     * Factory method for creating MatchesBudgetExceeded validation metadata.
+     *
+     * <p>Creates metadata for a guarded pattern match that was abandoned after exceeding its step budget.</p>
+     *
+     * @param identifier the validation identifier
+     * @param pattern the pattern whose match was abandoned
+     * @param maxSteps the number of character reads the match was allowed
+     * @return MatchesBudgetExceeded metadata instance
+     * @throws NullPointerException if identifier or pattern is null
+     */
+    public static MatchesBudgetExceeded matchesBudgetExceeded(ValidationIdentifier identifier, Pattern pattern, long maxSteps) {
+        Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG);
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+
+        return new MatchesBudgetExceeded(identifier, pattern, maxSteps);
+    }
+
     /**
      * Factory method for creating OneOf validation metadata.
      *
@@ -1224,4 +1291,111 @@ public abstract class StringValidationMetadata extends ValidationMetadata {
 
         return new ProperSpacing(identifier);
     }
-}
\ No newline at end of file
+
+    // Failure templates
+
+    /**
+     * Creates a failure template for MaxLength metadata.
+     *
+     * <p>The formatted message parameter is computed once, so each failure created from
+     * the template only binds its identifier. Intended to be created once per rule.</p>
+     *
+     * @param maxLength the maximum allowed number of characters
+     * @return function creating MaxLength metadata for an identifier
+     * @throws IllegalArgumentException if maxLength is negative
+     */
+    public static Function<ValidationIdentifier, MaxLength> maxLengthTemplate(int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("Maximum length cannot be negative");
+        }
+        String formatted = String.valueOf(maxLength);
+
+        return identifier -> new MaxLength(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                maxLength, formatted);
+    }
+
+    /**
+     * Creates a failure template for MinLength metadata.
+     *
+     * @param minLength the minimum required number of characters
+     * @return function creating MinLength metadata for an identifier
+     * @throws IllegalArgumentException if minLength is negative
+     * @see #maxLengthTemplate(int)
+     */
+    public static Function<ValidationIdentifier, MinLength> minLengthTemplate(int minLength) {
+        if (minLength < 0) {
+            throw new IllegalArgumentException("Minimum length cannot be negative");
+        }
+        String formatted = String.valueOf(minLength);
+
+        return identifier -> new MinLength(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                minLength, formatted);
+    }
+
+    /**
+     * Creates a failure template for ExactLength metadata.
+     *
+     * @param exactLength the exact required number of characters
+     * @return function creating ExactLength metadata for an identifier
+     * @throws IllegalArgumentException if exactLength is negative
+     * @see #maxLengthTemplate(int)
+     */
+    public static Function<ValidationIdentifier, ExactLength> exactLengthTemplate(int exactLength) {
+        if (exactLength < 0) {
+            throw new IllegalArgumentException("Exact length cannot be negative");
+        }
+        String formatted = String.valueOf(exactLength);
+
+        return identifier -> new ExactLength(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                exactLength, formatted);
+    }
+
+    /**
+     * Creates a failure template for OneOf metadata.
+     *
+     * <p>The allowed values are copied and joined once; every failure created from the
+     * template shares the copy and the joined string.</p>
+     *
+     * @param allowedValues the array of strings that are acceptable values
+     * @return function creating OneOf metadata for an identifier
+     * @throws NullPointerException if allowedValues is null
+     * @throws IllegalArgumentException if allowedValues array is empty
+     */
+    public static Function<ValidationIdentifier, OneOf> oneOfTemplate(String... allowedValues) {
+        Objects.requireNonNull(allowedValues, "Allowed values must not be null");
+        if (allowedValues.length == 0) {
+            throw new IllegalArgumentException("At least one allowed value is required");
+        }
+        String[] values = allowedValues.clone();
+        String allowedValuesString = String.join(", ", values);
+
+        return identifier -> new OneOf(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                values, allowedValuesString);
+    }
+
+    /**
+     * Creates a failure template for OneOfIgnoreCase metadata.
+     *
+     * @param allowedValues the array of strings that are acceptable values
+     * @return function creating OneOfIgnoreCase metadata for an identifier
+     * @throws NullPointerException if allowedValues is null
+     * @throws IllegalArgumentException if allowedValues array is empty
+     * @see #oneOfTemplate(String...)
+     */
+    public static Function<ValidationIdentifier, OneOfIgnoreCase> oneOfIgnoreCaseTemplate(String... allowedValues) {
+        Objects.requireNonNull(allowedValues, "Allowed values must not be null");
+        if (allowedValues.length == 0) {
+            throw new IllegalArgumentException("At least one allowed value is required");
+        }
+        String[] values = allowedValues.clone();
+        String allowedValuesString = String.join(", ", values);
+
+        return identifier -> new OneOfIgnoreCase(
+                Objects.requireNonNull(identifier, MetadataUtils.IDENTIFIER_MUST_NOT_BE_NULL_MSG),
+                values, allowedValuesString);
+    }
+}
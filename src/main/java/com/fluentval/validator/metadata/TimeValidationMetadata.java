@@ -52,10 +52,7 @@ public abstract class TimeValidationMetadata extends ValidationMetadata {
      */
     protected TimeValidationMetadata(ValidationIdentifier identifier,
                                      DefaultValidationCode code) {
-        super(identifier, code.getCode());
-
-        // Always add the field identifier as a parameter
-        addMessageParameter(MessageParameter.FIELD, identifier.value());
+        super(identifier, code);
     }
 
     /**
@@ -2,10 +2,10 @@ package com.fluentval.validator.metadata;
 
 import com.fluentval.validator.ValidationIdentifier;
 import com.fluentval.validator.message.MessageParameter;
+import com.fluentval.validator.message.MessageParameters;
 import lombok.*;
 
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -23,6 +23,12 @@ import java.util.function.Consumer;
  * <p>This class is designed to be extended by specific validation metadata implementations
  * that provide additional context for particular validation types (string, number, collection, etc.).</p>
  *
+ * <p><strong>Validation Time:</strong> Metadata does not read the clock when it is constructed.
+ * {@link #getValidationTime()} returns {@code null} until the failure carrying the metadata is
+ * recorded in a {@link com.fluentval.validator.ValidationResult}, which sets it to the run's
+ * timestamp, or until it is set explicitly. Code that creates metadata outside a result and
+ * needs a timestamp must set one itself.</p>
+ *
  * @author Matej Šarić
  * @since 1.2.3
  * @see ValidationIdentifier
@@ -73,6 +79,20 @@ public abstract class ValidationMetadata {
      */
     private final String errorCode;
 
+    /**
+     * The {@link DefaultValidationCode#getId() id} of the error code if it is a standard code,
+     * or -1 for custom codes.
+     *
+     * <p>Message registries use it to select the provider for a failure with a single array
+     * load instead of hashing {@link #errorCode}. It is derived from the error code and takes
+     * no part in equality.</p>
+     *
+     * <p><strong>Immutable:</strong> Set during construction and cannot be changed.</p>
+     */
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final int errorCodeId;
+
     /**
      * Dynamic parameters used for message template substitution and error context.
      *
@@ -81,10 +101,15 @@ public abstract class ValidationMetadata {
      * might include parameters for "maxLength" and "actualLength" values that get
      * substituted into error message templates.</p>
      *
+     * <p>Standard parameters are stored in {@link MessageParameter} slots rather than hashed
+     * entries, so a failure with a few parameters stays small; the map remains usable
+     * with plain string keys.</p>
+     *
      * <p><strong>Mutable:</strong> Parameters can be added throughout the metadata lifecycle
      * to provide rich context for error messages.</p>
      */
-    private final Map<String, Object> messageParameters = new HashMap<>();
+    @Getter(AccessLevel.NONE)
+    private final MessageParameters messageParameters = new MessageParameters();
 
     /**
      * The severity level of this validation failure.
@@ -152,10 +177,15 @@ public abstract class ValidationMetadata {
      * performance monitoring, debugging temporal validation issues, and
      * compliance reporting that requires timestamp information.</p>
      *
-     * <p><strong>Default:</strong> Current system time at object creation</p>
+     * <p>Metadata does not read the clock itself. When the failure carrying it is recorded in a
+     * {@link com.fluentval.validator.ValidationResult}, the time is set to the run's timestamp
+     * from {@link com.fluentval.validator.ValidationContext#now()}, which is shared by all
+     * failures of the run.</p>
+     *
+     * <p><strong>Default:</strong> null until the failure is recorded, unless set explicitly</p>
      * <p><strong>Mutable:</strong> Can be changed via setter or enrichment methods</p>
      */
-    private Instant validationTime = Instant.now();
+    private Instant validationTime;
 
     /**
      * Optional identifier of the system component or class that performed the validation.
@@ -195,8 +225,25 @@ public abstract class ValidationMetadata {
      * @throws NullPointerException if identifier or errorCode is null
      */
     protected ValidationMetadata(ValidationIdentifier identifier, String errorCode) {
+        this(identifier, errorCode, -1);
+    }
+
+    /**
+     * Constructs ValidationMetadata for one of the standard validation codes, recording
+     * its id for message dispatch.
+     *
+     * @param identifier the validation identifier specifying what failed validation
+     * @param code the standard validation code categorizing the validation failure
+     * @throws NullPointerException if identifier or code is null
+     */
+    protected ValidationMetadata(ValidationIdentifier identifier, DefaultValidationCode code) {
+        this(identifier, Objects.requireNonNull(code, "Code cannot be null").getCode(), code.getId());
+    }
+
+    private ValidationMetadata(ValidationIdentifier identifier, String errorCode, int errorCodeId) {
         this.identifier = Objects.requireNonNull(identifier, "Identifier cannot be null");
         this.errorCode = Objects.requireNonNull(errorCode, "ErrorCode cannot be null");
+        this.errorCodeId = errorCodeId;
         addMessageParameter(MessageParameter.FIELD, identifier.value());
     }
 
@@ -235,6 +282,19 @@ public abstract class ValidationMetadata {
         return this;
     }
 
+    /**
+     * Returns the parameters used for message template substitution.
+     *
+     * <p>The returned map is the live parameter map of this metadata; standard parameters
+     * are held in {@link MessageParameter} slots and are also reachable by their string
+     * keys.</p>
+     *
+     * @return the message parameters of this metadata
+     */
+    public Map<String, Object> getMessageParameters() {
+        return messageParameters;
+    }
+
     /**
      * Adds a parameter to the message parameters map using a string key.
      *
@@ -261,7 +321,7 @@ public abstract class ValidationMetadata {
      * @param message the parameter value to substitute
      */
     protected void addMessageParameter(MessageParameter key, Object message) {
-        addMessageParameter(key.getKey(), message);
+        messageParameters.put(key, message);
     }
 
     /**
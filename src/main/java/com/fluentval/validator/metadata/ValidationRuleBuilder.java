@@ -253,15 +253,14 @@ public class ValidationRuleBuilder<T> {
         // Only create a wrapper if metadata configuration is present
         if (severity != null || category != null || group != null || blocking != null) {
             configuredRule = (value, result, identifier) -> {
-                // Record the initial number of failures to identify new ones
-                int initialFailureCount = result.getFailures().size();
+                // Mark the end of the failure list to identify new ones
+                int mark = result.mark();
 
                 // Execute the original validation rule
                 rule.validate(value, result, identifier);
 
                 // Apply metadata enhancements to any new failures
-                for (int i = initialFailureCount; i < result.getFailures().size(); i++) {
-                    ValidationResult.Failure failure = result.getFailures().get(i);
+                for (ValidationResult.Failure failure : result.failuresSince(mark)) {
                     ValidationMetadata metadata = failure.getValidationMetadata();
 
                     // Apply configured metadata properties
@@ -115,7 +115,7 @@ public final class AllowedValuesValidationRules {
 
         return createSkipNullRule(
                 value -> ValidationFunctions.containsValue(value, allowedValues),
-                identifier -> AllowedValuesValidationMetadata.contains(identifier, allowedValues, allowedValuesString)
+                AllowedValuesValidationMetadata.containsTemplate(allowedValues, allowedValuesString)
         );
     }
 
@@ -177,7 +177,7 @@ public final class AllowedValuesValidationRules {
 
         return createSkipNullRule(
                 value -> ValidationFunctions.isOneOf(value, allowedValues),
-                identifier -> AllowedValuesValidationMetadata.oneOf(identifier, allowedValuesString, allowedValues)
+                AllowedValuesValidationMetadata.oneOfTemplate(allowedValuesString, allowedValues)
         );
     }
 
@@ -236,7 +236,7 @@ public final class AllowedValuesValidationRules {
 
         return createSkipNullRule(
                 value -> ValidationFunctions.notContainsValue(value, disallowedValues),
-                identifier -> AllowedValuesValidationMetadata.notContains(identifier, disallowedValues, disallowedValuesString)
+                AllowedValuesValidationMetadata.notContainsTemplate(disallowedValues, disallowedValuesString)
         );
     }
 
@@ -299,7 +299,7 @@ public final class AllowedValuesValidationRules {
 
         return createSkipNullRule(
                 value -> ValidationFunctions.isNoneOf(value, disallowedValues),
-                identifier -> AllowedValuesValidationMetadata.noneOf(identifier, disallowedValuesString, disallowedValues)
+                AllowedValuesValidationMetadata.noneOfTemplate(disallowedValuesString, disallowedValues)
         );
     }
 
@@ -362,7 +362,7 @@ public final class AllowedValuesValidationRules {
 
         return createSkipNullRule(
                 value -> ValidationFunctions.isInEnum(value, enumClass),
-                identifier -> AllowedValuesValidationMetadata.isInEnum(identifier, enumClass)
+                AllowedValuesValidationMetadata.isInEnumTemplate(enumClass)
         );
     }
 }
\ No newline at end of file
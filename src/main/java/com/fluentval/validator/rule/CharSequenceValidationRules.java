@@ -0,0 +1,408 @@
+package com.fluentval.validator.rule;
+
+import com.fluentval.validator.ValidationRule;
+import com.fluentval.validator.metadata.StringValidationMetadata;
+import com.fluentval.validator.rule.StringValidationRules.ValidationFunctions;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import static com.fluentval.validator.rule.ValidationRuleUtils.createRule;
+import static com.fluentval.validator.rule.ValidationRuleUtils.createSkipNullRule;
+
+/**
+ * Utility class providing validation rules for any {@link CharSequence}, such as {@link java.nio.CharBuffer}
+ * slices or {@link StringBuilder} contents, without converting them to {@link String}.
+ *
+ * <p>Each rule mirrors the {@link StringValidationRules} rule of the same name: it accepts and rejects
+ * exactly the same character content and reports the same validation codes and metadata. The rules read
+ * the sequence in place through {@link CharSequence#charAt(int)}, and pattern rules pass the sequence
+ * to {@link Pattern#matcher(CharSequence)} directly, so fields parsed into buffers can be validated
+ * before any string is materialized. {@link #uppercase()} and {@link #lowercase()} compare the case
+ * mapping of each code point in place; the only copy made is by {@link #uppercase()} for a sequence
+ * containing a combining dot above while the default locale is Lithuanian, whose uppercase mapping
+ * depends on the preceding letter.</p>
+ *
+ * <p>As in {@link StringValidationRules}, all rules except {@link #notBlank()} skip null values.
+ * The sequence must not be modified while it is being validated.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * CharBuffer accountNumber = request.slice(offset, length);
+ *
+ * ValidationResult result = new ValidationResult();
+ * ValidationIdentifier identifier = ValidationIdentifier.ofField("accountNumber");
+ * CharSequenceValidationRules.<CharBuffer>numeric()
+ *     .and(CharSequenceValidationRules.exactLength(12))
+ *     .validate(accountNumber, result, identifier);
+ * }</pre>
+ *
+ * @author Matej Šarić
+ * @since 1.2.3
+ * @see StringValidationRules
+ * @see StringValidationMetadata
+ * @see CharSequence
+ */
+public final class CharSequenceValidationRules {
+
+    private CharSequenceValidationRules() {
+        // Utility class
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence is not blank.
+     * Like {@link StringValidationRules#notBlank()}, this rule fails for null values.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if the sequence is not null and contains a non-whitespace character
+     */
+    public static <S extends CharSequence> ValidationRule<S> notBlank() {
+        return createRule(
+                ValidationFunctions::isNotBlank,
+                StringValidationMetadata::notBlank
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if the trimmed length of a character sequence does not
+     * exceed the maximum. See {@link StringValidationRules#maxLength(int)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param max the maximum allowed length (must be non-negative)
+     * @return a ValidationRule that passes if the trimmed length is &lt;= max
+     * @throws IllegalArgumentException if max is negative
+     */
+    public static <S extends CharSequence> ValidationRule<S> maxLength(final int max) {
+        return maxLength(max, StringValidationRules.LengthMode.TRIMMED);
+    }
+
+    /**
+     * Creates a validation rule that checks if the length of a character sequence, measured with the
+     * given mode, does not exceed the maximum. See {@link StringValidationRules#maxLength(int, StringValidationRules.LengthMode)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param max the maximum allowed length (must be non-negative)
+     * @param mode how the length of the sequence is measured
+     * @return a ValidationRule that passes if the measured length is &lt;= max
+     * @throws IllegalArgumentException if max is negative
+     * @throws NullPointerException if mode is null
+     */
+    public static <S extends CharSequence> ValidationRule<S> maxLength(final int max,
+                                                                     final StringValidationRules.LengthMode mode) {
+        if (max < 0) {
+            throw new IllegalArgumentException("Maximum length cannot be negative");
+        }
+        Objects.requireNonNull(mode, "Length mode must not be null");
+
+        return createSkipNullRule(
+                value -> ValidationFunctions.length(value, mode) <= max,
+                StringValidationMetadata.maxLengthTemplate(max)
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if the trimmed length of a character sequence is at least
+     * the minimum. See {@link StringValidationRules#minLength(int)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param min the minimum required length (must be non-negative)
+     * @return a ValidationRule that passes if the trimmed length is &gt;= min
+     * @throws IllegalArgumentException if min is negative
+     */
+    public static <S extends CharSequence> ValidationRule<S> minLength(final int min) {
+        return minLength(min, StringValidationRules.LengthMode.TRIMMED);
+    }
+
+    /**
+     * Creates a validation rule that checks if the length of a character sequence, measured with the
+     * given mode, is at least the minimum. See {@link StringValidationRules#minLength(int, StringValidationRules.LengthMode)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param min the minimum required length (must be non-negative)
+     * @param mode how the length of the sequence is measured
+     * @return a ValidationRule that passes if the measured length is &gt;= min
+     * @throws IllegalArgumentException if min is negative
+     * @throws NullPointerException if mode is null
+     */
+    public static <S extends CharSequence> ValidationRule<S> minLength(final int min,
+                                                                     final StringValidationRules.LengthMode mode) {
+        if (min < 0) {
+            throw new IllegalArgumentException("Minimum length cannot be negative");
+        }
+        Objects.requireNonNull(mode, "Length mode must not be null");
+
+        return createSkipNullRule(
+                value -> ValidationFunctions.length(value, mode) >= min,
+                StringValidationMetadata.minLengthTemplate(min)
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if the trimmed length of a character sequence equals the
+     * given length. See {@link StringValidationRules#exactLength(int)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param length the exact required length (must be non-negative)
+     * @return a ValidationRule that passes if the trimmed length equals length
+     * @throws IllegalArgumentException if length is negative
+     */
+    public static <S extends CharSequence> ValidationRule<S> exactLength(final int length) {
+        return exactLength(length, StringValidationRules.LengthMode.TRIMMED);
+    }
+
+    /**
+     * Creates a validation rule that checks if the length of a character sequence, measured with the
+     * given mode, equals the given length. See {@link StringValidationRules#exactLength(int, StringValidationRules.LengthMode)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param length the exact required length (must be non-negative)
+     * @param mode how the length of the sequence is measured
+     * @return a ValidationRule that passes if the measured length equals length
+     * @throws IllegalArgumentException if length is negative
+     * @throws NullPointerException if mode is null
+     */
+    public static <S extends CharSequence> ValidationRule<S> exactLength(final int length,
+                                                                       final StringValidationRules.LengthMode mode) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Exact length cannot be negative");
+        }
+        Objects.requireNonNull(mode, "Length mode must not be null");
+
+        return createSkipNullRule(
+                value -> ValidationFunctions.length(value, mode) == length,
+                StringValidationMetadata.exactLengthTemplate(length)
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if the entire character sequence matches the pattern.
+     * The sequence is passed to the matcher as is. See {@link StringValidationRules#matches(Pattern)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param pattern the pattern that the entire sequence must match
+     * @return a ValidationRule that passes if the sequence matches the pattern
+     * @throws NullPointerException if pattern is null
+     */
+    public static <S extends CharSequence> ValidationRule<S> matches(final Pattern pattern) {
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+
+        return createSkipNullRule(
+                value -> ValidationFunctions.matchesPattern(value, pattern),
+                identifier -> StringValidationMetadata.matches(identifier, pattern)
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if the entire character sequence matches the regex, compiled
+     * through the {@linkplain PatternCache#getDefault() default pattern cache}.
+     * See {@link StringValidationRules#matches(String)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param pattern the regex pattern string that the entire sequence must match
+     * @return a ValidationRule that passes if the sequence matches the pattern
+     * @throws NullPointerException if pattern is null
+     * @throws IllegalArgumentException if pattern is blank
+     */
+    public static <S extends CharSequence> ValidationRule<S> matches(final String pattern) {
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+        if (pattern.isBlank()) {
+            throw new IllegalArgumentException("Pattern must not be blank");
+        }
+
+        return matches(PatternCache.getDefault().get(pattern));
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence starts with the prefix.
+     * See {@link StringValidationRules#startsWith(String)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param prefix the prefix that the sequence must start with
+     * @return a ValidationRule that passes if the sequence starts with the prefix
+     * @throws NullPointerException if prefix is null
+     */
+    public static <S extends CharSequence> ValidationRule<S> startsWith(final String prefix) {
+        Objects.requireNonNull(prefix, "Prefix must not be null");
+
+        return createSkipNullRule(
+                value -> ValidationFunctions.startsWith(value, prefix),
+                identifier -> StringValidationMetadata.startsWith(identifier, prefix)
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence ends with the suffix.
+     * See {@link StringValidationRules#endsWith(String)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param suffix the suffix that the sequence must end with
+     * @return a ValidationRule that passes if the sequence ends with the suffix
+     * @throws NullPointerException if suffix is null
+     */
+    public static <S extends CharSequence> ValidationRule<S> endsWith(final String suffix) {
+        Objects.requireNonNull(suffix, "Suffix must not be null");
+
+        return createSkipNullRule(
+                value -> ValidationFunctions.endsWith(value, suffix),
+                identifier -> StringValidationMetadata.endsWith(identifier, suffix)
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence contains the substring.
+     * See {@link StringValidationRules#contains(String)}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @param substring the substring that the sequence must contain
+     * @return a ValidationRule that passes if the sequence contains the substring
+     * @throws NullPointerException if substring is null
+     */
+    public static <S extends CharSequence> ValidationRule<S> contains(final String substring) {
+        Objects.requireNonNull(substring, "Substring must not be null");
+
+        return createSkipNullRule(
+                value -> ValidationFunctions.contains(value, substring),
+                identifier -> StringValidationMetadata.contains(identifier, substring)
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence consists only of the digits 0-9.
+     * See {@link StringValidationRules#numeric()}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if the sequence is non-empty and contains only digits
+     */
+    public static <S extends CharSequence> ValidationRule<S> numeric() {
+        return createSkipNullRule(
+                ValidationFunctions::isNumeric,
+                StringValidationMetadata::numeric
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence consists only of ASCII letters and digits.
+     * See {@link StringValidationRules#alphanumeric()}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if the sequence is non-empty and alphanumeric
+     */
+    public static <S extends CharSequence> ValidationRule<S> alphanumeric() {
+        return createSkipNullRule(
+                ValidationFunctions::isAlphanumeric,
+                StringValidationMetadata::alphanumeric
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence is in uppercase.
+     * See {@link StringValidationRules#uppercase()}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if the sequence equals its uppercase form
+     */
+    public static <S extends CharSequence> ValidationRule<S> uppercase() {
+        return createSkipNullRule(
+                ValidationFunctions::isUppercase,
+                StringValidationMetadata::uppercase
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence is in lowercase.
+     * See {@link StringValidationRules#lowercase()}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if the sequence equals its lowercase form
+     */
+    public static <S extends CharSequence> ValidationRule<S> lowercase() {
+        return createSkipNullRule(
+                ValidationFunctions::isLowercase,
+                StringValidationMetadata::lowercase
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence contains no whitespace.
+     * See {@link StringValidationRules#noWhitespace()}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if the sequence contains no whitespace characters
+     */
+    public static <S extends CharSequence> ValidationRule<S> noWhitespace() {
+        return createSkipNullRule(
+                ValidationFunctions::hasNoWhitespace,
+                StringValidationMetadata::noWhitespace
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence does not start with whitespace.
+     * See {@link StringValidationRules#noLeadingWhitespace()}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if the sequence is non-empty and does not start with whitespace
+     */
+    public static <S extends CharSequence> ValidationRule<S> noLeadingWhitespace() {
+        return createSkipNullRule(
+                ValidationFunctions::hasNoLeadingWhitespace,
+                StringValidationMetadata::noLeadingWhitespace
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence does not end with whitespace.
+     * See {@link StringValidationRules#noTrailingWhitespace()}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if the sequence is non-empty and does not end with whitespace
+     */
+    public static <S extends CharSequence> ValidationRule<S> noTrailingWhitespace() {
+        return createSkipNullRule(
+                ValidationFunctions::hasNoTrailingWhitespace,
+                StringValidationMetadata::noTrailingWhitespace
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence contains no consecutive whitespace.
+     * See {@link StringValidationRules#noConsecutiveWhitespace()}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if no two adjacent characters are whitespace
+     */
+    public static <S extends CharSequence> ValidationRule<S> noConsecutiveWhitespace() {
+        return createSkipNullRule(
+                ValidationFunctions::hasNoConsecutiveWhitespace,
+                StringValidationMetadata::noConsecutiveWhitespace
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence has no leading or trailing
+     * characters up to {@code ' '}. See {@link StringValidationRules#trimmed()}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if the sequence is trimmed
+     */
+    public static <S extends CharSequence> ValidationRule<S> trimmed() {
+        return createSkipNullRule(
+                ValidationFunctions::isTrimmed,
+                StringValidationMetadata::trimmed
+        );
+    }
+
+    /**
+     * Creates a validation rule that checks if a character sequence is trimmed and separates words with
+     * single spaces. See {@link StringValidationRules#properSpacing()}.
+     *
+     * @param <S> the type of character sequence to validate
+     * @return a ValidationRule that passes if the sequence has proper spacing
+     */
+    public static <S extends CharSequence> ValidationRule<S> properSpacing() {
+        return createSkipNullRule(
+                ValidationFunctions::hasProperSpacing,
+                StringValidationMetadata::properSpacing
+        );
+    }
+}
@@ -364,9 +364,9 @@ public final class CollectionValidationRules {
             }
 
             if (!ValidationFunctions.isInSizeRange(value, min, max)) {
-                result.addFailure(new ValidationResult.Failure(
-                        CollectionValidationMetadata.sizeRange(identifier, min, max, value.size())
-                ));
+                int actualSize = value.size();
+                result.addFailure(new ValidationResult.Failure(identifier,
+                        id -> CollectionValidationMetadata.sizeRange(id, min, max, actualSize)));
             }
         };
     }
@@ -748,7 +748,7 @@ public final class CollectionValidationRules {
 
         return createSkipNullRule(
                 collection -> ValidationFunctions.containsAllElements(collection, elements),
-                identifier -> CollectionValidationMetadata.containsAll(identifier, elements)
+                CollectionValidationMetadata.containsAllTemplate(elements)
         );
     }
 
@@ -805,7 +805,7 @@ public final class CollectionValidationRules {
 
         return createSkipNullRule(
                 collection -> ValidationFunctions.containsNoElements(collection, elements),
-                identifier -> CollectionValidationMetadata.containsNone(identifier, elements)
+                CollectionValidationMetadata.containsNoneTemplate(elements)
         );
     }
 }
\ No newline at end of file
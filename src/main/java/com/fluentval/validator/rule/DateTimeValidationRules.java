@@ -1,5 +1,6 @@
 package com.fluentval.validator.rule;
 
+import com.fluentval.validator.ValidationContext;
 import com.fluentval.validator.ValidationResult;
 import com.fluentval.validator.ValidationRule;
 import com.fluentval.validator.metadata.DateTimeValidationMetadata;
@@ -13,6 +14,7 @@ import java.util.EnumSet;
 import java.util.Objects;
 import java.util.Set;
 
+import static com.fluentval.validator.rule.ValidationRuleUtils.createSkipNullContextRule;
 import static com.fluentval.validator.rule.ValidationRuleUtils.createSkipNullRule;
 
 /**
@@ -24,6 +26,10 @@ import static com.fluentval.validator.rule.ValidationRuleUtils.createSkipNullRul
  * pass validation if the input is null. Use in combination with {@code CommonValidationRules.notNull()}
  * if null values should be rejected.</p>
  *
+ * <p>Rules relative to the current time ({@link #future()}, {@link #past()},
+ * {@link #presentOrFuture()} and {@link #presentOrPast()}) compare against the time of the
+ * run's {@link ValidationContext}, read from its clock once per run and shared by all rules.</p>
+ *
  * <p>Supported temporal types include:</p>
  * <ul>
  * <li>{@link LocalDate} - Date without time</li>
@@ -72,23 +78,23 @@ public final class DateTimeValidationRules {
             return value.compareTo(reference) >= 0;
         }
 
-        static <T extends Temporal & Comparable<? super T>> boolean isFuture(final T value) {
-            T current = getCurrent(value);
+        static <T extends Temporal & Comparable<? super T>> boolean isFuture(final T value, final ValidationContext context) {
+            T current = getCurrent(value, context);
             return value.compareTo(current) > 0;
         }
 
-        static <T extends Temporal & Comparable<? super T>> boolean isPast(final T value) {
-            T current = getCurrent(value);
+        static <T extends Temporal & Comparable<? super T>> boolean isPast(final T value, final ValidationContext context) {
+            T current = getCurrent(value, context);
             return value.compareTo(current) < 0;
         }
 
-        static <T extends Temporal & Comparable<? super T>> boolean isPresentOrFuture(final T value) {
-            T current = getCurrent(value);
+        static <T extends Temporal & Comparable<? super T>> boolean isPresentOrFuture(final T value, final ValidationContext context) {
+            T current = getCurrent(value, context);
             return value.compareTo(current) >= 0;
         }
 
-        static <T extends Temporal & Comparable<? super T>> boolean isPresentOrPast(final T value) {
-            T current = getCurrent(value);
+        static <T extends Temporal & Comparable<? super T>> boolean isPresentOrPast(final T value, final ValidationContext context) {
+            T current = getCurrent(value, context);
             return value.compareTo(current) <= 0;
         }
 
@@ -118,11 +124,11 @@ public final class DateTimeValidationRules {
     }
 
     @SuppressWarnings("unchecked")
-    private static <T extends Temporal & Comparable<? super T>> T getCurrent(final T value) {
+    private static <T extends Temporal & Comparable<? super T>> T getCurrent(final T value, final ValidationContext context) {
         if (value instanceof LocalDate) {
-            return (T) LocalDate.now();
+            return (T) context.today();
         } else if (value instanceof LocalDateTime) {
-            return (T) LocalDateTime.now();
+            return (T) context.localNow();
         }
 
         throw new IllegalArgumentException("Unsupported temporal type: " + value.getClass());
@@ -440,7 +446,7 @@ public final class DateTimeValidationRules {
      * }</pre>
      */
     public static <T extends Temporal & Comparable<? super T>> ValidationRule<T> future() {
-        return createSkipNullRule(
+        return createSkipNullContextRule(
                 ValidationFunctions::isFuture,
                 DateTimeValidationMetadata::future
         );
@@ -482,7 +488,7 @@ public final class DateTimeValidationRules {
      * }</pre>
      */
     public static <T extends Temporal & Comparable<? super T>> ValidationRule<T> past() {
-        return createSkipNullRule(
+        return createSkipNullContextRule(
                 ValidationFunctions::isPast,
                 DateTimeValidationMetadata::past
         );
@@ -524,7 +530,7 @@ public final class DateTimeValidationRules {
      * }</pre>
      */
     public static <T extends Temporal & Comparable<? super T>> ValidationRule<T> presentOrFuture() {
-        return createSkipNullRule(
+        return createSkipNullContextRule(
                 ValidationFunctions::isPresentOrFuture,
                 DateTimeValidationMetadata::presentOrFuture
         );
@@ -566,7 +572,7 @@ public final class DateTimeValidationRules {
      * }</pre>
      */
     public static <T extends Temporal & Comparable<? super T>> ValidationRule<T> presentOrPast() {
-        return createSkipNullRule(
+        return createSkipNullContextRule(
                 ValidationFunctions::isPresentOrPast,
                 DateTimeValidationMetadata::presentOrPast
         );
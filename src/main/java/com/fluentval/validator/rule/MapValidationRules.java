@@ -408,9 +408,9 @@ public final class MapValidationRules {
             }
 
             if (!ValidationFunctions.isInSizeRange(value, min, max)) {
-                result.addFailure(new ValidationResult.Failure(
-                        MapValidationMetadata.sizeRange(identifier, min, max, value.size())
-                ));
+                int actualSize = value.size();
+                result.addFailure(new ValidationResult.Failure(identifier,
+                        id -> MapValidationMetadata.sizeRange(id, min, max, actualSize)));
             }
         };
     }
@@ -562,7 +562,7 @@ public final class MapValidationRules {
 
         return createSkipNullRule(
                 map -> ValidationFunctions.containsAllKeys(map, keys),
-                identifier -> MapValidationMetadata.containsAllKeys(identifier, keys)
+                MapValidationMetadata.containsAllKeysTemplate(keys)
         );
     }
 
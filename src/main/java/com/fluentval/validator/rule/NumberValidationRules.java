@@ -1,10 +1,12 @@
 package com.fluentval.validator.rule;
 
+import com.fluentval.validator.ValidationIdentifier;
 import com.fluentval.validator.ValidationResult;
 import com.fluentval.validator.ValidationRule;
 import com.fluentval.validator.metadata.NumberValidationMetadata;
 
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Utility class providing validation rules for numeric types including Integer, Long, Double, Float,
@@ -143,6 +145,8 @@ public final class NumberValidationRules {
     public static <T extends Number & Comparable<T>> ValidationRule<T> min(final T min) {
         Objects.requireNonNull(min, "Minimum value must not be null");
 
+        Function<ValidationIdentifier, NumberValidationMetadata.Min<T>> metadata = NumberValidationMetadata.minTemplate(min);
+
         return (value, result, identifier) -> {
             if (value == null) {
                 // Skip validation for null value
@@ -150,11 +154,7 @@ public final class NumberValidationRules {
             }
 
             if (!ValidationFunctions.isGreaterThanOrEqualTo(value, min)) {
-                result.addFailure(
-                        new ValidationResult.Failure(
-                                NumberValidationMetadata.min(identifier, min)
-                        )
-                );
+                result.addFailure(new ValidationResult.Failure(identifier, metadata));
             }
         };
     }
@@ -205,6 +205,8 @@ public final class NumberValidationRules {
     public static <T extends Number & Comparable<T>> ValidationRule<T> max(final T max) {
         Objects.requireNonNull(max, "Maximum value must not be null");
 
+        Function<ValidationIdentifier, NumberValidationMetadata.Max<T>> metadata = NumberValidationMetadata.maxTemplate(max);
+
         return (value, result, identifier) -> {
             if (value == null) {
                 // Skip validation for null value
@@ -212,11 +214,7 @@ public final class NumberValidationRules {
             }
 
             if (!ValidationFunctions.isLessThanOrEqualTo(value, max)) {
-                result.addFailure(
-                        new ValidationResult.Failure(
-                                NumberValidationMetadata.max(identifier, max)
-                        )
-                );
+                result.addFailure(new ValidationResult.Failure(identifier, metadata));
             }
         };
     }
@@ -283,6 +281,8 @@ public final class NumberValidationRules {
             throw new IllegalArgumentException("Minimum value must be less than or equal to maximum value");
         }
 
+        Function<ValidationIdentifier, NumberValidationMetadata.Range<T>> metadata = NumberValidationMetadata.rangeTemplate(min, max);
+
         return (value, result, identifier) -> {
             if (value == null) {
                 // Skip validation for null value
@@ -290,11 +290,7 @@ public final class NumberValidationRules {
             }
 
             if (!ValidationFunctions.isInRange(value, min, max)) {
-                result.addFailure(
-                        new ValidationResult.Failure(
-                                NumberValidationMetadata.range(identifier, min, max)
-                        )
-                );
+                result.addFailure(new ValidationResult.Failure(identifier, metadata));
             }
         };
     }
@@ -356,11 +352,7 @@ public final class NumberValidationRules {
             }
 
             if (!ValidationFunctions.isPositive(value)) {
-                result.addFailure(
-                        new ValidationResult.Failure(
-                                NumberValidationMetadata.positive(identifier)
-                        )
-                );
+                result.addFailure(new ValidationResult.Failure(identifier, NumberValidationMetadata::positive));
             }
         };
     }
@@ -421,11 +413,7 @@ public final class NumberValidationRules {
             }
 
             if (!ValidationFunctions.isNegative(value)) {
-                result.addFailure(
-                        new ValidationResult.Failure(
-                                NumberValidationMetadata.negative(identifier)
-                        )
-                );
+                result.addFailure(new ValidationResult.Failure(identifier, NumberValidationMetadata::negative));
             }
         };
     }
@@ -504,11 +492,7 @@ public final class NumberValidationRules {
             }
 
             if (!ValidationFunctions.isNotZero(value)) {
-                result.addFailure(
-                        new ValidationResult.Failure(
-                                NumberValidationMetadata.notZero(identifier)
-                        )
-                );
+                result.addFailure(new ValidationResult.Failure(identifier, NumberValidationMetadata::notZero));
             }
         };
     }
@@ -0,0 +1,192 @@
+package com.fluentval.validator.rule;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Bounded, thread-safe cache of compiled regular expressions keyed by pattern string and flags.
+ *
+ * <p>{@link StringValidationRules#matches(String)} and the rules taking a regex string resolve their
+ * pattern through the {@linkplain #getDefault() default cache}, so schemas that are built repeatedly,
+ * per tenant, per request or from configuration, compile each distinct regex only once while it
+ * stays cached.</p>
+ *
+ * <p><strong>Key Features:</strong></p>
+ * <ul>
+ * <li><strong>LRU Eviction</strong> - When full, the least recently used pattern is discarded</li>
+ * <li><strong>Statistics</strong> - Hit and miss counts are tracked for monitoring the hit rate</li>
+ * <li><strong>Thread Safety</strong> - Lookups take a short lock; compilation happens outside the lock,
+ * so a slow compile never blocks lookups of other patterns. Two threads missing on the same key
+ * concurrently may both compile it; the first result is cached and returned to both.</li>
+ * </ul>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>{@code
+ * Pattern sku = PatternCache.getDefault().get("[A-Z]{3}-\\d{4}");
+ *
+ * PatternCache tenantPatterns = new PatternCache(512);
+ * Pattern code = tenantPatterns.get(config.getCodeRegex(), Pattern.CASE_INSENSITIVE);
+ * double hitRate = (double) tenantPatterns.getHitCount()
+ *         / (tenantPatterns.getHitCount() + tenantPatterns.getMissCount());
+ * }</pre>
+ *
+ * @author Matej Šarić
+ * @since 1.2.3
+ * @see Pattern
+ * @see StringValidationRules#matches(String)
+ */
+public final class PatternCache {
+
+    /**
+     * Capacity of the default cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final PatternCache DEFAULT = new PatternCache(DEFAULT_MAX_SIZE);
+
+    @EqualsAndHashCode
+    private static final class Key {
+        private final String regex;
+        private final int flags;
+
+        Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+    }
+
+    private final int maxSize;
+
+    /**
+     * Cached patterns in access order; guarded by itself.
+     */
+    private final LinkedHashMap<Key, Pattern> patterns;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates an empty cache holding at most the given number of patterns.
+     *
+     * @param maxSize the maximum number of cached patterns
+     * @throws IllegalArgumentException if maxSize is not positive
+     */
+    public PatternCache(final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.patterns = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+                return size() > PatternCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared by the rules of this library.
+     *
+     * @return the default pattern cache
+     */
+    public static PatternCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the compiled pattern for the regex without flags, compiling and caching it on a miss.
+     *
+     * @param regex the regular expression
+     * @return the compiled pattern
+     * @throws NullPointerException if regex is null
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid
+     */
+    public Pattern get(final String regex) {
+        return get(regex, 0);
+    }
+
+    /**
+     * Returns the compiled pattern for the regex and flags, compiling and caching it on a miss.
+     * Invalid regular expressions are not cached.
+     *
+     * @param regex the regular expression
+     * @param flags the match flags, a bit mask of the {@link Pattern} flag constants
+     * @return the compiled pattern
+     * @throws NullPointerException if regex is null
+     * @throws IllegalArgumentException if flags contains undefined bits
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid
+     */
+    public Pattern get(final String regex, final int flags) {
+        Objects.requireNonNull(regex, "Regex must not be null");
+        Key key = new Key(regex, flags);
+        Pattern pattern;
+        synchronized (patterns) {
+            pattern = patterns.get(key);
+        }
+        if (pattern != null) {
+            hits.increment();
+            return pattern;
+        }
+
+        misses.increment();
+        Pattern compiled = Pattern.compile(regex, flags);
+        synchronized (patterns) {
+            pattern = patterns.putIfAbsent(key, compiled);
+        }
+        return pattern != null ? pattern : compiled;
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return the hit count since creation or the last {@link #clear()}
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to compile the pattern.
+     *
+     * @return the miss count since creation or the last {@link #clear()}
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of patterns currently cached.
+     *
+     * @return the current cache size
+     */
+    public int size() {
+        synchronized (patterns) {
+            return patterns.size();
+        }
+    }
+
+    /**
+     * Returns the maximum number of patterns this cache holds.
+     *
+     * @return the cache capacity
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Discards all cached patterns and resets the statistics.
+     */
+    public void clear() {
+        synchronized (patterns) {
+            patterns.clear();
+        }
+        hits.reset();
+        misses.reset();
+    }
+}
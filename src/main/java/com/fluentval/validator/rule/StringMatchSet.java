@@ -0,0 +1,415 @@
+package com.fluentval.validator.rule;
+
+import com.fluentval.validator.ValidationIdentifier;
+import com.fluentval.validator.ValidationResult;
+import com.fluentval.validator.ValidationRule;
+import com.fluentval.validator.metadata.StringValidationMetadata;
+import com.fluentval.validator.metadata.ValidationMetadata;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Builder for a composite rule that evaluates many {@code contains} and {@code matches} checks
+ * against the same string together.
+ *
+ * <p>The built rule reports exactly the failures that the individual
+ * {@link StringValidationRules#contains(String)} and {@link StringValidationRules#matches(Pattern)}
+ * rules would report when combined with {@link ValidationRule#andAlways(ValidationRule)}: every check
+ * is evaluated, and each unsatisfied check adds its own {@code CONTAINS} or {@code MATCHES} failure,
+ * in declaration order. Null values are skipped.</p>
+ *
+ * <p><strong>Performance Characteristics:</strong> All substrings are compiled into a single
+ * Aho-Corasick automaton when the rule is built, so they are searched in one pass over the string
+ * whose cost does not depend on their number; the pass stops early once every substring has been
+ * seen. Patterns that are plain literals, either compiled with {@link Pattern#LITERAL} or free of
+ * metacharacters, join the same pass: such a pattern matches exactly when the string has the
+ * literal's length and contains it. A pattern of the form {@code (?s).*literal.*}, or
+ * {@code .*literal.*} compiled with {@link Pattern#DOTALL}, is a plain containment check and joins
+ * the pass as well. No other combining is attempted: any remaining pattern is evaluated on its own
+ * after the pass, in declaration order.</p>
+ *
+ * <p><strong>Usage Example:</strong></p>
+ * <pre>{@code
+ * ValidationRule<String> disclaimer = StringValidationRules.matchSet()
+ *     .contains("Terms of Service")
+ *     .contains("Privacy Policy")
+ *     .contains("unsubscribe")
+ *     .matches(Pattern.compile("(?s).*\\bRef: [A-Z]{3}-\\d{6}\\b.*"))
+ *     .build();
+ * }</pre>
+ *
+ * @author Matej Šarić
+ * @since 1.2.3
+ * @see StringValidationRules#matchSet()
+ * @see StringValidationRules#contains(String)
+ * @see StringValidationRules#matches(Pattern)
+ */
+public final class StringMatchSet {
+
+    /**
+     * A declared check: a substring or a pattern, with the metadata of its failure.
+     */
+    private static final class Check {
+        final String substring;
+        final Pattern pattern;
+        final Function<ValidationIdentifier, ? extends ValidationMetadata> metadataFactory;
+
+        Check(String substring, Pattern pattern,
+              Function<ValidationIdentifier, ? extends ValidationMetadata> metadataFactory) {
+            this.substring = substring;
+            this.pattern = pattern;
+            this.metadataFactory = metadataFactory;
+        }
+    }
+
+    private final List<Check> checks = new ArrayList<>();
+
+    StringMatchSet() {
+    }
+
+    /**
+     * Adds the equivalent of {@link StringValidationRules#contains(String)}.
+     *
+     * @param substring the substring the string must contain
+     * @return this builder
+     * @throws NullPointerException if substring is null
+     */
+    public StringMatchSet contains(final String substring) {
+        Objects.requireNonNull(substring, "Substring must not be null");
+        checks.add(new Check(substring, null, identifier -> StringValidationMetadata.contains(identifier, substring)));
+        return this;
+    }
+
+    /**
+     * Adds the equivalent of {@link StringValidationRules#matches(Pattern)}.
+     *
+     * @param pattern the pattern the entire string must match
+     * @return this builder
+     * @throws NullPointerException if pattern is null
+     */
+    public StringMatchSet matches(final Pattern pattern) {
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+        checks.add(new Check(null, pattern, identifier -> StringValidationMetadata.matches(identifier, pattern)));
+        return this;
+    }
+
+    /**
+     * Adds the equivalent of {@link StringValidationRules#matches(String)}.
+     *
+     * @param pattern the regex the entire string must match
+     * @return this builder
+     * @throws NullPointerException if pattern is null
+     * @throws IllegalArgumentException if pattern is blank
+     */
+    public StringMatchSet matches(final String pattern) {
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+        if (pattern.isBlank()) {
+            throw new IllegalArgumentException("Pattern must not be blank");
+        }
+        return matches(PatternCache.getDefault().get(pattern));
+    }
+
+    /**
+     * Builds the composite rule. Later changes to this builder do not affect the built rule.
+     *
+     * @return a ValidationRule evaluating all declared checks
+     * @throws IllegalStateException if no check has been added
+     */
+    public ValidationRule<String> build() {
+        if (checks.isEmpty()) {
+            throw new IllegalStateException("At least one substring or pattern is required");
+        }
+        return new CompositeRule(checks.toArray(new Check[0]));
+    }
+
+    /**
+     * The built rule: one automaton for all substrings and literal patterns, and the remaining
+     * patterns in declaration order.
+     */
+    private static final class CompositeRule implements ValidationRule<String> {
+
+        /** Flags that do not change how a pattern without metacharacters matches */
+        private static final int LITERAL_NEUTRAL_FLAGS =
+                Pattern.DOTALL | Pattern.MULTILINE | Pattern.UNIX_LINES | Pattern.UNICODE_CHARACTER_CLASS;
+
+        /** Flags that keep their effect on a pattern compiled with {@link Pattern#LITERAL} */
+        private static final int LITERAL_MATCHING_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.CANON_EQ;
+
+        private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+        private static final String DOTALL_PREFIX = "(?s)";
+
+        private static final String ANY = ".*";
+
+        private final Check[] checks;
+
+        /** Automaton node at which each check's substring or literal ends; -1 for evaluated patterns */
+        private final int[] terminals;
+
+        /** Length the string must have for a literal pattern to match; -1 for containment checks */
+        private final int[] exactLengths;
+
+        private final SubstringAutomaton automaton;
+
+        CompositeRule(final Check[] checks) {
+            this.checks = checks;
+            this.terminals = new int[checks.length];
+            this.exactLengths = new int[checks.length];
+            SubstringAutomaton.Builder builder = new SubstringAutomaton.Builder();
+            for (int i = 0; i < checks.length; i++) {
+                Check check = checks[i];
+                terminals[i] = -1;
+                exactLengths[i] = -1;
+                if (check.substring != null) {
+                    terminals[i] = builder.add(check.substring);
+                } else if (isLiteral(check.pattern)) {
+                    terminals[i] = builder.add(check.pattern.pattern());
+                    exactLengths[i] = check.pattern.pattern().length();
+                } else {
+                    String contained = containedLiteral(check.pattern);
+                    if (contained != null) {
+                        terminals[i] = builder.add(contained);
+                    }
+                }
+            }
+            this.automaton = builder.build();
+        }
+
+        /**
+         * Whether the pattern matches exactly its own source text.
+         */
+        private static boolean isLiteral(final Pattern pattern) {
+            int flags = pattern.flags();
+            if ((flags & Pattern.LITERAL) != 0) {
+                return (flags & LITERAL_MATCHING_FLAGS) == 0 && isPlain(pattern.pattern(), "", 0, pattern.pattern().length());
+            }
+            return (flags & ~LITERAL_NEUTRAL_FLAGS) == 0 && isPlain(pattern.pattern(), METACHARACTERS, 0, pattern.pattern().length());
+        }
+
+        /**
+         * Returns the literal a {@code (?s).*literal.*} pattern searches for, or null if the pattern
+         * has another form.
+         */
+        private static String containedLiteral(final Pattern pattern) {
+            int flags = pattern.flags();
+            String source = pattern.pattern();
+            if ((flags & ~LITERAL_NEUTRAL_FLAGS) != 0) {
+                return null;
+            }
+            int start;
+            if (source.startsWith(DOTALL_PREFIX + ANY)) {
+                start = DOTALL_PREFIX.length() + ANY.length();
+            } else if ((flags & Pattern.DOTALL) != 0 && source.startsWith(ANY)) {
+                start = ANY.length();
+            } else {
+                return null;
+            }
+            int end = source.length() - ANY.length();
+            if (end < start || !source.endsWith(ANY) || !isPlain(source, METACHARACTERS, start, end)) {
+                return null;
+            }
+            return source.substring(start, end);
+        }
+
+        /**
+         * Whether the range holds none of the given metacharacters and no surrogates, which a
+         * pattern matches as whole code points rather than as the code units the automaton sees.
+         */
+        private static boolean isPlain(final String source, final String metacharacters, final int start, final int end) {
+            for (int i = start; i < end; i++) {
+                char c = source.charAt(i);
+                if (Character.isSurrogate(c) || metacharacters.indexOf(c) >= 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void validate(final String value, final ValidationResult result, final ValidationIdentifier identifier) {
+            if (value == null) {
+                return; // Skip validation for null value
+            }
+
+            boolean[] found = automaton.search(value);
+            for (int i = 0; i < checks.length; i++) {
+                Check check = checks[i];
+                int terminal = terminals[i];
+                boolean satisfied = terminal >= 0
+                        ? found[terminal] && (exactLengths[i] < 0 || value.length() == exactLengths[i])
+                        : check.pattern.matcher(value).matches();
+                if (!satisfied) {
+                    result.addFailure(new ValidationResult.Failure(identifier, check.metadataFactory));
+                }
+            }
+        }
+    }
+
+    /**
+     * Aho-Corasick automaton over UTF-16 code units reporting which of its substrings occur in a text.
+     * Node 0 is the root and stands for the empty substring, which occurs in every text.
+     */
+    private static final class SubstringAutomaton {
+
+        /** Outgoing edge labels of each node, sorted for binary search */
+        private final char[][] labels;
+
+        /** Target node of each outgoing edge, parallel to {@link #labels} */
+        private final int[][] targets;
+
+        /** Longest proper suffix of each node that is also a node */
+        private final int[] fail;
+
+        /** Nearest node on the fail chain, excluding the node itself, at which a substring ends; 0 if none */
+        private final int[] outputLink;
+
+        /** Whether a substring ends at each node */
+        private final boolean[] terminal;
+
+        /** Number of distinct non-root terminal nodes */
+        private final int terminalCount;
+
+        private SubstringAutomaton(char[][] labels, int[][] targets, int[] fail, int[] outputLink,
+                                   boolean[] terminal, int terminalCount) {
+            this.labels = labels;
+            this.targets = targets;
+            this.fail = fail;
+            this.outputLink = outputLink;
+            this.terminal = terminal;
+            this.terminalCount = terminalCount;
+        }
+
+        /**
+         * Scans the text once and returns, per node, whether the substring ending there occurs.
+         */
+        boolean[] search(final String text) {
+            boolean[] found = new boolean[fail.length];
+            found[0] = true;
+            int remaining = terminalCount;
+            int state = 0;
+            int length = text.length();
+            for (int i = 0; i < length && remaining > 0; i++) {
+                char c = text.charAt(i);
+                int next;
+                while ((next = next(state, c)) < 0 && state != 0) {
+                    state = fail[state];
+                }
+                state = Math.max(next, 0);
+
+                // A node already found had its whole output chain recorded when it was found
+                for (int node = terminal[state] ? state : outputLink[state]; node != 0 && !found[node]; node = outputLink[node]) {
+                    found[node] = true;
+                    remaining--;
+                }
+            }
+            return found;
+        }
+
+        private int next(final int state, final char c) {
+            char[] edges = labels[state];
+            int low = 0;
+            int high = edges.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char label = edges[mid];
+                if (label < c) {
+                    low = mid + 1;
+                } else if (label > c) {
+                    high = mid - 1;
+                } else {
+                    return targets[state][mid];
+                }
+            }
+            return -1;
+        }
+
+        static final class Builder {
+
+            private final List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+
+            private final List<Boolean> terminal = new ArrayList<>();
+
+            Builder() {
+                trie.add(new TreeMap<>());
+                terminal.add(Boolean.FALSE);
+            }
+
+            /**
+             * Adds a substring and returns the node at which it ends.
+             */
+            int add(final String substring) {
+                int node = 0;
+                for (int i = 0; i < substring.length(); i++) {
+                    Integer child = trie.get(node).get(substring.charAt(i));
+                    if (child == null) {
+                        child = trie.size();
+                        trie.add(new TreeMap<>());
+                        terminal.add(Boolean.FALSE);
+                        trie.get(node).put(substring.charAt(i), child);
+                    }
+                    node = child;
+                }
+                if (node != 0) {
+                    terminal.set(node, Boolean.TRUE);
+                }
+                return node;
+            }
+
+            SubstringAutomaton build() {
+                int size = trie.size();
+                char[][] labels = new char[size][];
+                int[][] targets = new int[size][];
+                boolean[] terminals = new boolean[size];
+                int terminalCount = 0;
+                for (int node = 0; node < size; node++) {
+                    TreeMap<Character, Integer> edges = trie.get(node);
+                    labels[node] = new char[edges.size()];
+                    targets[node] = new int[edges.size()];
+                    int edge = 0;
+                    for (Map.Entry<Character, Integer> entry : edges.entrySet()) {
+                        labels[node][edge] = entry.getKey();
+                        targets[node][edge] = entry.getValue();
+                        edge++;
+                    }
+                    terminals[node] = terminal.get(node);
+                    if (terminals[node]) {
+                        terminalCount++;
+                    }
+                }
+
+                // Breadth-first, so the fail target of every node is complete before its children
+                int[] fail = new int[size];
+                int[] outputLink = new int[size];
+                SubstringAutomaton automaton =
+                        new SubstringAutomaton(labels, targets, fail, outputLink, terminals, terminalCount);
+                ArrayDeque<Integer> queue = new ArrayDeque<>();
+                for (int child : targets[0]) {
+                    queue.add(child);
+                }
+                while (!queue.isEmpty()) {
+                    int node = queue.poll();
+                    for (int edge = 0; edge < labels[node].length; edge++) {
+                        char c = labels[node][edge];
+                        int child = targets[node][edge];
+                        int state = fail[node];
+                        int next;
+                        while ((next = automaton.next(state, c)) < 0 && state != 0) {
+                            state = fail[state];
+                        }
+                        fail[child] = next >= 0 && next != child ? next : 0;
+                        outputLink[child] = terminals[fail[child]] ? fail[child] : outputLink[fail[child]];
+                        queue.add(child);
+                    }
+                }
+                return automaton;
+            }
+        }
+    }
+}
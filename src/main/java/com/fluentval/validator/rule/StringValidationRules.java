@@ -1,10 +1,14 @@
 package com.fluentval.validator.rule;
 
+import com.fluentval.validator.ValidationResult;
 import com.fluentval.validator.ValidationRule;
 import com.fluentval.validator.metadata.StringValidationMetadata;
 
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import static com.fluentval.validator.rule.ValidationRuleUtils.createRule;
@@ -51,90 +55,502 @@ public final class StringValidationRules {
         // Utility class
     }
 
-    // Pure validation functions
-    private static class ValidationFunctions {
-        static boolean isNotBlank(final String value) {
-            return value != null && !value.isBlank();
+    /**
+     * Determines how the length of a string is measured by the length rules.
+     *
+     * <p>{@link #maxLength(int)}, {@link #minLength(int)} and {@link #exactLength(int)} use
+     * {@link #TRIMMED}; the overloads accepting a LengthMode allow choosing another measure.
+     * All modes measure the string in place without allocating.</p>
+     */
+    public enum LengthMode {
+        /** Number of UTF-16 code units, as returned by {@link String#length()} */
+        RAW,
+        /** Number of UTF-16 code units after leading and trailing characters up to {@code ' '}
+         * are ignored, matching the length of {@link String#trim()} */
+        TRIMMED,
+        /** Number of Unicode code points, counting a surrogate pair as one character */
+        CODE_POINTS
+    }
+
+    // Pure validation functions, shared with CharSequenceValidationRules and StringRuleChain.
+    // Scans take CharSequence and use the String methods directly when given a String.
+    static class ValidationFunctions {
+        static boolean isNotBlank(final CharSequence value) {
+            if (value == null) {
+                return false;
+            }
+            if (value instanceof String string) {
+                return !string.isBlank();
+            }
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                if (!Character.isWhitespace(value.charAt(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        static boolean hasMaxLength(final CharSequence value, final int maxLength, final LengthMode mode) {
+            return length(value, mode) <= maxLength;
+        }
+
+        static boolean hasMinLength(final CharSequence value, final int minLength, final LengthMode mode) {
+            return length(value, mode) >= minLength;
         }
 
-        static boolean hasMaxLength(final String value, final int maxLength) {
-            return value.trim().length() <= maxLength;
+        static boolean hasExactLength(final CharSequence value, final int exactLength, final LengthMode mode) {
+            return length(value, mode) == exactLength;
         }
 
-        static boolean hasMinLength(final String value, final int minLength) {
-            return value.trim().length() >= minLength;
+        static int length(final CharSequence value, final LengthMode mode) {
+            return switch (mode) {
+                case RAW -> value.length();
+                case TRIMMED -> trimmedLength(value);
+                case CODE_POINTS -> value instanceof String string
+                        ? string.codePointCount(0, string.length())
+                        : Character.codePointCount(value, 0, value.length());
+            };
         }
 
-        static boolean hasExactLength(final String value, final int exactLength) {
-            return value.trim().length() == exactLength;
+        static int trimmedLength(final CharSequence value) {
+            int end = value.length();
+            int start = 0;
+            while (start < end && value.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && value.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            return end - start;
         }
 
-        static boolean matchesPattern(final String value, final Pattern pattern) {
+        static boolean matchesPattern(final CharSequence value, final Pattern pattern) {
             return pattern.matcher(value).matches();
         }
 
-        static boolean isOneOf(final String value, final String[] allowedValues) {
-            return Arrays.stream(allowedValues).anyMatch(value::equals);
+        static boolean isOneOf(final String value, final Set<String> allowedValues) {
+            return allowedValues.contains(value);
+        }
+
+        static boolean isOneOfIgnoreCase(final String value, final IgnoreCaseLookup allowedValues) {
+            return allowedValues.contains(value);
+        }
+
+        static boolean startsWith(final CharSequence value, final String prefix) {
+            if (value instanceof String string) {
+                return string.startsWith(prefix);
+            }
+            int length = prefix.length();
+            if (length > value.length()) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static boolean endsWith(final CharSequence value, final String suffix) {
+            if (value instanceof String string) {
+                return string.endsWith(suffix);
+            }
+            int length = suffix.length();
+            int offset = value.length() - length;
+            if (offset < 0) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(offset + i) != suffix.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static boolean contains(final CharSequence value, final String substring) {
+            if (value instanceof String string) {
+                return string.contains(substring);
+            }
+            int length = substring.length();
+            if (length == 0) {
+                return true;
+            }
+            char first = substring.charAt(0);
+            int last = value.length() - length;
+            for (int start = 0; start <= last; start++) {
+                if (value.charAt(start) != first) {
+                    continue;
+                }
+                int i = 1;
+                while (i < length && value.charAt(start + i) == substring.charAt(i)) {
+                    i++;
+                }
+                if (i == length) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        static boolean isNumeric(final CharSequence value) {
+            int length = value.length();
+            if (length == 0) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static boolean isAlphanumeric(final CharSequence value) {
+            int length = value.length();
+            if (length == 0) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if ((c < '0' || c > '9') && (c < 'a' || c > 'z') && (c < 'A' || c > 'Z')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // Equivalent to value.equals(value.toUpperCase()), compared code point by code point
+        static boolean isUppercase(final CharSequence value) {
+            int length = value.length();
+            for (int i = 0; i < length; ) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (c >= 'a' && c <= 'z') {
+                        return false;
+                    }
+                    i++;
+                    continue;
+                }
+                int codePoint = Character.codePointAt(value, i);
+                if (isContextualUppercase(codePoint)) {
+                    String text = value.toString();
+                    return text.equals(text.toUpperCase());
+                }
+                if (!isUppercase(codePoint)) {
+                    return false;
+                }
+                i += Character.charCount(codePoint);
+            }
+            return true;
         }
 
-        static boolean isOneOfIgnoreCase(final String value, final String[] allowedValues) {
-            return Arrays.stream(allowedValues).anyMatch(allowed -> allowed.equalsIgnoreCase(value));
+        // Equivalent to value.equals(value.toLowerCase()), compared code point by code point
+        static boolean isLowercase(final CharSequence value) {
+            int length = value.length();
+            for (int i = 0; i < length; ) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (c >= 'A' && c <= 'Z') {
+                        return false;
+                    }
+                    i++;
+                    continue;
+                }
+                int codePoint = Character.codePointAt(value, i);
+                if (!isLowercase(codePoint)) {
+                    return false;
+                }
+                i += Character.charCount(codePoint);
+            }
+            return true;
         }
 
-        static boolean startsWith(final String value, final String prefix) {
-            return value.startsWith(prefix);
+        /**
+         * Whether the default-locale uppercase mapping leaves the code point unchanged. Letters such
+         * as {@code 'ß'} keep their simple mapping but expand to several characters, so lowercase and
+         * titlecase letters without a simple mapping are checked against the full mapping.
+         */
+        static boolean isUppercase(final int codePoint) {
+            if (Character.toUpperCase(codePoint) != codePoint) {
+                return false;
+            }
+            if (!Character.isLowerCase(codePoint) && !Character.isTitleCase(codePoint)) {
+                return true;
+            }
+            String text = Character.toString(codePoint);
+            return text.equals(text.toUpperCase());
         }
 
-        static boolean endsWith(final String value, final String suffix) {
-            return value.endsWith(suffix);
+        /**
+         * Whether the default-locale lowercase mapping leaves the code point unchanged. Every full
+         * lowercase mapping that expands or depends on context starts from a letter whose simple
+         * mapping already changes it.
+         */
+        static boolean isLowercase(final int codePoint) {
+            return Character.toLowerCase(codePoint) == codePoint;
         }
 
-        static boolean contains(final String value, final String substring) {
-            return value.contains(substring);
+        /**
+         * Whether uppercasing may remove the code point depending on the preceding characters:
+         * in Lithuanian, a combining dot above is dropped after a soft-dotted letter. Sequences
+         * containing it are compared with the full mapping.
+         */
+        static boolean isContextualUppercase(final int codePoint) {
+            return codePoint == '\u0307' && "lt".equals(Locale.getDefault().getLanguage());
         }
 
-        static boolean isNumeric(final String value) {
-            return value.matches("\\d+");
+        static boolean hasNoWhitespace(final CharSequence value) {
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                if (Character.isWhitespace(value.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
         }
 
-        static boolean isAlphanumeric(final String value) {
-            return value.matches("[a-zA-Z0-9]+");
+        static boolean hasNoLeadingWhitespace(final CharSequence value) {
+            return value.length() > 0 && !Character.isWhitespace(value.charAt(0));
         }
 
-        static boolean isUppercase(final String value) {
-            return value.equals(value.toUpperCase());
+        static boolean hasNoTrailingWhitespace(final CharSequence value) {
+            return value.length() > 0 && !Character.isWhitespace(value.charAt(value.length() - 1));
         }
 
-        static boolean isLowercase(final String value) {
-            return value.equals(value.toLowerCase());
+        static boolean hasNoConsecutiveWhitespace(final CharSequence value) {
+            boolean previousWhitespace = false;
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                boolean whitespace = isRegexWhitespace(value.charAt(i));
+                if (whitespace && previousWhitespace) {
+                    return false;
+                }
+                previousWhitespace = whitespace;
+            }
+            return true;
+        }
+
+        static boolean isTrimmed(final CharSequence value) {
+            int length = value.length();
+            return length == 0 || (value.charAt(0) > ' ' && value.charAt(length - 1) > ' ');
+        }
+
+        static boolean hasProperSpacing(final CharSequence value) {
+            if (!isTrimmed(value)) {
+                return false;
+            }
+            boolean previousWhitespace = false;
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                boolean whitespace = isRegexWhitespace(c);
+                if (whitespace && (c != ' ' || previousWhitespace)) {
+                    return false;
+                }
+                previousWhitespace = whitespace;
+            }
+            return true;
+        }
+
+        /**
+         * Matches the characters of the regex class {@code \s}: space, tab, line feed,
+         * vertical tab, form feed and carriage return.
+         */
+        private static boolean isRegexWhitespace(final char c) {
+            return c == ' ' || (c >= '\t' && c <= '\r');
+        }
+    }
+
+    /**
+     * Immutable open-addressing hash set of strings compared with {@link String#equalsIgnoreCase}.
+     *
+     * <p>Strings are hashed over their case-folded code points, so strings equal ignoring case
+     * share a hash code. Lookups fold the candidate while hashing it and never build a folded
+     * copy; a probe hit is confirmed with {@code equalsIgnoreCase}.</p>
+     */
+    private static final class IgnoreCaseLookup {
+
+        private final String[] table;
+        private final int mask;
+
+        IgnoreCaseLookup(final String[] values) {
+            int capacity = Integer.highestOneBit(Math.max(1, values.length) * 2 - 1) << 1;
+            table = new String[capacity];
+            mask = capacity - 1;
+            for (String value : values) {
+                if (value != null && !contains(value)) {
+                    int slot = foldedHash(value) & mask;
+                    while (table[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = value;
+                }
+            }
+        }
+
+        boolean contains(final String value) {
+            int slot = foldedHash(value) & mask;
+            String candidate;
+            while ((candidate = table[slot]) != null) {
+                if (candidate.equalsIgnoreCase(value)) {
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        private static int foldedHash(final String value) {
+            int hash = 0;
+            int length = value.length();
+            for (int i = 0; i < length; ) {
+                int codePoint = value.codePointAt(i);
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(codePoint));
+                i += Character.charCount(codePoint);
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * Read-only view of a string that counts character reads and aborts the match once the
+     * budget is spent. Every backtracking step of the regex engine re-reads input, so the count
+     * bounds the total matching work.
+     */
+    private static final class BudgetedCharSequence implements CharSequence {
+
+        private final String value;
+        private long remainingSteps;
+
+        BudgetedCharSequence(final String value, final long maxSteps) {
+            this.value = value;
+            this.remainingSteps = maxSteps;
         }
 
-        static boolean hasNoWhitespace(final String value) {
-            return !value.chars().anyMatch(Character::isWhitespace);
+        @Override
+        public char charAt(final int index) {
+            if (--remainingSteps < 0) {
+                throw BudgetExceededException.INSTANCE;
+            }
+            return value.charAt(index);
         }
 
-        static boolean hasNoLeadingWhitespace(final String value) {
-            return !value.isEmpty() && !Character.isWhitespace(value.charAt(0));
+        @Override
+        public int length() {
+            return value.length();
         }
 
-        static boolean hasNoTrailingWhitespace(final String value) {
-            return !value.isEmpty() && !Character.isWhitespace(value.charAt(value.length() - 1));
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return value.subSequence(start, end);
         }
 
-        static boolean hasNoConsecutiveWhitespace(final String value) {
-            return !value.matches(".*\\s{2,}.*");
+        @Override
+        public String toString() {
+            return value;
         }
+    }
+
+    /**
+     * Signals an exhausted match budget. Used only for control flow, so a single
+     * instance without a stack trace is shared. It is always caught by
+     * {@link #matchWithinBudget(Pattern, String, long)} and never reaches callers of a rule.
+     */
+    private static final class BudgetExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        static final BudgetExceededException INSTANCE = new BudgetExceededException();
 
-        static boolean isTrimmed(final String value) {
-            return value.equals(value.trim());
+        private BudgetExceededException() {
+            super("Match budget exceeded", null, false, false);
         }
+    }
 
-        static boolean hasProperSpacing(final String value) {
-            String normalized = value.trim().replaceAll("\\s+", " ");
-            return value.equals(normalized);
+    /**
+     * Outcome of a budgeted match.
+     */
+    private enum BudgetedMatch {
+        MATCHED, NOT_MATCHED, BUDGET_EXCEEDED
+    }
+
+    /**
+     * Matches the entire value against the pattern through a budgeted view. The view is created
+     * and consumed entirely within the try block and never escapes this method, so an exhausted
+     * budget always ends here as {@link BudgetedMatch#BUDGET_EXCEEDED}.
+     *
+     * @param pattern the pattern that the entire value must match
+     * @param value the value to match
+     * @param maxSteps the maximum number of character reads
+     * @return the outcome of the match
+     */
+    private static BudgetedMatch matchWithinBudget(final Pattern pattern, final String value, final long maxSteps) {
+        try {
+            return pattern.matcher(new BudgetedCharSequence(value, maxSteps)).matches()
+                    ? BudgetedMatch.MATCHED
+                    : BudgetedMatch.NOT_MATCHED;
+        } catch (BudgetExceededException e) {
+            return BudgetedMatch.BUDGET_EXCEEDED;
         }
     }
 
+    /**
+     * Starts a chain of string rules that is evaluated together by a single rule.
+     *
+     * <p>The built rule behaves like the same rules of this class combined with
+     * {@link ValidationRule#and(ValidationRule)}, reporting the same failures, but evaluates the
+     * character-class, whitespace and length conditions in one loop with the same scans.</p>
+     *
+     * @return a new chain builder
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationResult result = Validator.of(user)
+     *     .property(ValidationIdentifier.ofField("username"), User::getUsername)
+     *         .validate(StringValidationRules.chain()
+     *             .notBlank()
+     *             .minLength(3)
+     *             .maxLength(64)
+     *             .alphanumeric()
+     *             .noWhitespace()
+     *             .build())
+     *         .end()
+     *     .getResult();
+     * }</pre>
+     */
+    public static StringRuleChain chain() {
+        return new StringRuleChain();
+    }
+
+    /**
+     * Starts a set of {@code contains} and {@code matches} checks that are evaluated together.
+     *
+     * <p>The built rule reports the same failures as the individual {@link #contains(String)} and
+     * {@link #matches(Pattern)} rules combined with {@link ValidationRule#andAlways(ValidationRule)},
+     * but searches for all substrings in a single pass over the value.</p>
+     *
+     * @return a new match set builder
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationResult result = Validator.of(email)
+     *     .property(ValidationIdentifier.ofField("body"), Email::getBody)
+     *         .validate(StringValidationRules.matchSet()
+     *             .contains("Terms of Service")
+     *             .contains("unsubscribe")
+     *             .build())
+     *         .end()
+     *     .getResult();
+     * }</pre>
+     */
+    public static StringMatchSet matchSet() {
+        return new StringMatchSet();
+    }
+
     /**
      * Creates a validation rule that checks if a string is not blank.
      *
@@ -244,13 +660,40 @@ public final class StringValidationRules {
      * }</pre>
      */
     public static ValidationRule<String> maxLength(final int max) {
+        return maxLength(max, LengthMode.TRIMMED);
+    }
+
+    /**
+     * Creates a validation rule like {@link #maxLength(int)} that measures the string with the given mode.
+     *
+     * <p>Use {@link LengthMode#RAW} when surrounding whitespace counts toward the limit, for example
+     * for database column sizes, and {@link LengthMode#CODE_POINTS} when characters outside the
+     * Basic Multilingual Plane, such as emoji, should count once.</p>
+     *
+     * @param max the maximum length (must be non-negative)
+     * @param mode how the length of the string is measured
+     * @return a ValidationRule that passes if the measured string length is <= max
+     * @throws IllegalArgumentException if max is negative
+     * @throws NullPointerException if mode is null
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationResult result = Validator.of(ticket)
+     *     .property(ValidationIdentifier.ofField("body"), Ticket::getBody)
+     *         .validate(StringValidationRules.maxLength(65536, LengthMode.RAW))
+     *         .end()
+     *     .getResult();
+     * }</pre>
+     */
+    public static ValidationRule<String> maxLength(final int max, final LengthMode mode) {
         if (max < 0) {
             throw new IllegalArgumentException("Maximum length cannot be negative");
         }
+        Objects.requireNonNull(mode, "Length mode must not be null");
 
         return createSkipNullRule(
-                value -> ValidationFunctions.hasMaxLength(value, max),
-                identifier -> StringValidationMetadata.maxLength(identifier, max)
+                value -> ValidationFunctions.hasMaxLength(value, max, mode),
+                StringValidationMetadata.maxLengthTemplate(max)
         );
     }
 
@@ -300,13 +743,40 @@ public final class StringValidationRules {
      * }</pre>
      */
     public static ValidationRule<String> minLength(final int min) {
+        return minLength(min, LengthMode.TRIMMED);
+    }
+
+    /**
+     * Creates a validation rule like {@link #minLength(int)} that measures the string with the given mode.
+     *
+     * <p>Use {@link LengthMode#RAW} when surrounding whitespace counts toward the limit, for example
+     * for database column sizes, and {@link LengthMode#CODE_POINTS} when characters outside the
+     * Basic Multilingual Plane, such as emoji, should count once.</p>
+     *
+     * @param min the minimum length (must be non-negative)
+     * @param mode how the length of the string is measured
+     * @return a ValidationRule that passes if the measured string length is >= min
+     * @throws IllegalArgumentException if min is negative
+     * @throws NullPointerException if mode is null
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationResult result = Validator.of(ticket)
+     *     .property(ValidationIdentifier.ofField("body"), Ticket::getBody)
+     *         .validate(StringValidationRules.minLength(10, LengthMode.RAW))
+     *         .end()
+     *     .getResult();
+     * }</pre>
+     */
+    public static ValidationRule<String> minLength(final int min, final LengthMode mode) {
         if (min < 0) {
             throw new IllegalArgumentException("Minimum length cannot be negative");
         }
+        Objects.requireNonNull(mode, "Length mode must not be null");
 
         return createSkipNullRule(
-                value -> ValidationFunctions.hasMinLength(value, min),
-                identifier -> StringValidationMetadata.minLength(identifier, min)
+                value -> ValidationFunctions.hasMinLength(value, min, mode),
+                StringValidationMetadata.minLengthTemplate(min)
         );
     }
 
@@ -357,13 +827,40 @@ public final class StringValidationRules {
      * }</pre>
      */
     public static ValidationRule<String> exactLength(final int length) {
+        return exactLength(length, LengthMode.TRIMMED);
+    }
+
+    /**
+     * Creates a validation rule like {@link #exactLength(int)} that measures the string with the given mode.
+     *
+     * <p>Use {@link LengthMode#RAW} when surrounding whitespace counts toward the limit, for example
+     * for database column sizes, and {@link LengthMode#CODE_POINTS} when characters outside the
+     * Basic Multilingual Plane, such as emoji, should count once.</p>
+     *
+     * @param length the exact length (must be non-negative)
+     * @param mode how the length of the string is measured
+     * @return a ValidationRule that passes if the measured string length is == length
+     * @throws IllegalArgumentException if length is negative
+     * @throws NullPointerException if mode is null
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationResult result = Validator.of(ticket)
+     *     .property(ValidationIdentifier.ofField("body"), Ticket::getBody)
+     *         .validate(StringValidationRules.exactLength(12, LengthMode.RAW))
+     *         .end()
+     *     .getResult();
+     * }</pre>
+     */
+    public static ValidationRule<String> exactLength(final int length, final LengthMode mode) {
         if (length < 0) {
             throw new IllegalArgumentException("Exact length cannot be negative");
         }
+        Objects.requireNonNull(mode, "Length mode must not be null");
 
         return createSkipNullRule(
-                value -> ValidationFunctions.hasExactLength(value, length),
-                identifier -> StringValidationMetadata.exactLength(identifier, length)
+                value -> ValidationFunctions.hasExactLength(value, length, mode),
+                StringValidationMetadata.exactLengthTemplate(length)
         );
     }
 
@@ -418,7 +915,9 @@ public final class StringValidationRules {
      * Creates a validation rule that checks if a string matches the specified regex pattern.
      *
      * <p>This rule validates that the entire string matches the given regex pattern string.
-     * The pattern is compiled internally. The rule automatically skips validation for null strings.</p>
+     * The pattern is compiled through the {@linkplain PatternCache#getDefault() default pattern cache},
+     * so creating rules for the same regex repeatedly compiles it only once.
+     * The rule automatically skips validation for null strings.</p>
      *
      * @param pattern the regex pattern string that the string must match
      * @return a ValidationRule that passes if the string matches the pattern
@@ -464,7 +963,114 @@ public final class StringValidationRules {
             throw new IllegalArgumentException("Pattern must not be blank");
         }
 
-        return matches(Pattern.compile(pattern));
+        return matches(PatternCache.getDefault().get(pattern));
+    }
+
+    /**
+     * Creates a validation rule that checks if a string matches the specified regex pattern,
+     * compiled with the given {@link Pattern} flags.
+     *
+     * <p>Behaves like {@link #matches(String)}; the pattern is resolved through the
+     * {@linkplain PatternCache#getDefault() default pattern cache} keyed by regex and flags.</p>
+     *
+     * @param pattern the regex pattern string that the string must match
+     * @param flags the match flags, a bit mask of the {@link Pattern} flag constants
+     * @return a ValidationRule that passes if the string matches the pattern
+     * @throws NullPointerException if pattern is null
+     * @throws IllegalArgumentException if pattern is blank or flags contains undefined bits
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * ValidationResult result = Validator.of(order)
+     *     .property(ValidationIdentifier.ofField("reference"), Order::getReference)
+     *         .validate(StringValidationRules.matches("ord-\\d{8}", Pattern.CASE_INSENSITIVE))
+     *         .end()
+     *     .getResult();
+     * }</pre>
+     */
+    public static ValidationRule<String> matches(final String pattern, final int flags) {
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+        if (pattern.isBlank()) {
+            throw new IllegalArgumentException("Pattern must not be blank");
+        }
+
+        return matches(PatternCache.getDefault().get(pattern, flags));
+    }
+
+    /**
+     * Creates a guarded validation rule that checks if a string matches the specified pattern while
+     * bounding the work a single match may perform.
+     *
+     * <p>The match reads the string through a view that counts character reads. Backtracking re-reads
+     * input, so catastrophic backtracking on an adversarial value exhausts the budget quickly instead
+     * of occupying the thread for seconds. When the budget is exceeded the match is abandoned and the
+     * rule reports {@link com.fluentval.validator.metadata.DefaultValidationCode#MATCHES_BUDGET_EXCEEDED}
+     * instead of {@link com.fluentval.validator.metadata.DefaultValidationCode#MATCHES}, so callers can
+     * tell rejected input from input that could not be checked. The rule automatically skips
+     * validation for null strings.</p>
+     *
+     * <p><strong>Choosing a budget:</strong> a linear pattern reads each character a small number of
+     * times, so a budget of a few dozen times the maximum expected input length leaves ample headroom
+     * for legitimate values.</p>
+     *
+     * @param pattern the pattern that the entire string must match
+     * @param maxSteps the maximum number of character reads allowed for one match (must be positive)
+     * @return a ValidationRule that passes if the string matches the pattern within the budget
+     * @throws NullPointerException if pattern is null
+     * @throws IllegalArgumentException if maxSteps is not positive
+     *
+     * <p>Example usage:</p>
+     * <pre>{@code
+     * // Tenant-supplied pattern applied to user input
+     * ValidationResult result = Validator.of(ticket)
+     *     .property(ValidationIdentifier.ofField("subject"), Ticket::getSubject)
+     *         .validate(StringValidationRules.matchesWithBudget(tenant.getSubjectPattern(), 100_000))
+     *         .end()
+     *     .getResult();
+     * }</pre>
+     */
+    public static ValidationRule<String> matchesWithBudget(final Pattern pattern, final long maxSteps) {
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+        if (maxSteps <= 0) {
+            throw new IllegalArgumentException("Maximum steps must be positive");
+        }
+
+        return (value, result, identifier) -> {
+            if (value == null) {
+                return; // Skip validation for null value
+            }
+
+            BudgetedMatch match = matchWithinBudget(pattern, value, maxSteps);
+            if (match == BudgetedMatch.BUDGET_EXCEEDED) {
+                result.addFailure(new ValidationResult.Failure(identifier,
+                        id -> StringValidationMetadata.matchesBudgetExceeded(id, pattern, maxSteps)));
+            } else if (match == BudgetedMatch.NOT_MATCHED) {
+                result.addFailure(new ValidationResult.Failure(identifier,
+                        id -> StringValidationMetadata.matches(id, pattern)));
+            }
+        };
+    }
+
+    /**
+     * Creates a guarded validation rule that checks if a string matches the specified regex pattern
+     * while bounding the work a single match may perform.
+     *
+     * <p>Behaves like {@link #matchesWithBudget(Pattern, long)}; the pattern is resolved through the
+     * {@linkplain PatternCache#getDefault() default pattern cache}.</p>
+     *
+     * @param pattern the regex pattern string that the string must match
+     * @param maxSteps the maximum number of character reads allowed for one match (must be positive)
+     * @return a ValidationRule that passes if the string matches the pattern within the budget
+     * @throws NullPointerException if pattern is null
+     * @throws IllegalArgumentException if pattern is blank or maxSteps is not positive
+     */
+    public static ValidationRule<String> matchesWithBudget(final String pattern, final long maxSteps) {
+        Objects.requireNonNull(pattern, "Pattern must not be null");
+        if (pattern.isBlank()) {
+            throw new IllegalArgumentException("Pattern must not be blank");
+        }
+
+        return matchesWithBudget(PatternCache.getDefault().get(pattern), maxSteps);
     }
 
     /**
@@ -473,6 +1079,9 @@ public final class StringValidationRules {
      * <p>This rule validates that the string exactly matches one of the provided allowed values
      * using case-sensitive comparison. The rule automatically skips validation for null strings.</p>
      *
+     * <p>The allowed values are copied into a hash set when the rule is created, so each check
+     * takes constant time regardless of the number of values.</p>
+     *
      * @param allowedValues the array of strings that are considered valid (must not be null or empty)
      * @return a ValidationRule that passes if the string equals one of the allowed values
      * @throws NullPointerException if allowedValues is null
@@ -515,9 +1124,11 @@ public final class StringValidationRules {
             throw new IllegalArgumentException("At least one allowed value is required");
         }
 
+        final Set<String> allowed = new HashSet<>(Arrays.asList(allowedValues));
+
         return createSkipNullRule(
-                value -> ValidationFunctions.isOneOf(value, allowedValues),
-                identifier -> StringValidationMetadata.oneOf(identifier, allowedValues)
+                value -> ValidationFunctions.isOneOf(value, allowed),
+                StringValidationMetadata.oneOfTemplate(allowedValues)
         );
     }
 
@@ -527,6 +1138,9 @@ public final class StringValidationRules {
      * <p>This rule validates that the string matches one of the provided allowed values
      * using case-insensitive comparison. The rule automatically skips validation for null strings.</p>
      *
+     * <p>The allowed values are copied into a case-insensitive hash table when the rule is created,
+     * so each check costs time proportional to the length of the string, not the number of values.</p>
+     *
      * @param allowedValues the array of strings that are considered valid (must not be null or empty)
      * @return a ValidationRule that passes if the string equals one of the allowed values (ignoring case)
      * @throws NullPointerException if allowedValues is null
@@ -569,9 +1183,11 @@ public final class StringValidationRules {
             throw new IllegalArgumentException("At least one allowed value is required");
         }
 
+        final IgnoreCaseLookup allowed = new IgnoreCaseLookup(allowedValues);
+
         return createSkipNullRule(
-                value -> ValidationFunctions.isOneOfIgnoreCase(value, allowedValues),
-                identifier -> StringValidationMetadata.oneOfIgnoreCase(identifier, allowedValues)
+                value -> ValidationFunctions.isOneOfIgnoreCase(value, allowed),
+                StringValidationMetadata.oneOfIgnoreCaseTemplate(allowedValues)
         );
     }
 
@@ -1,10 +1,12 @@
 package com.fluentval.validator.rule;
 
+import com.fluentval.validator.ValidationContext;
 import com.fluentval.validator.ValidationIdentifier;
 import com.fluentval.validator.ValidationResult;
 import com.fluentval.validator.ValidationRule;
 import com.fluentval.validator.metadata.ValidationMetadata;
 
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -19,6 +21,9 @@ import java.util.function.Predicate;
  * <li><strong>Skip-null rules</strong> - skip validation when the value is null</li>
  * </ul>
  *
+ * <p>Failures are recorded lazily: the metadata factory is only invoked when a consumer
+ * asks for the failure's {@link ValidationResult.Failure#getValidationMetadata() metadata}.</p>
+ *
  * <p>Most validation rule classes in the framework use these utility methods to ensure
  * consistent behavior and reduce code duplication across different validation types.</p>
  *
@@ -56,13 +61,11 @@ public class ValidationRuleUtils {
      */
     public static <T> ValidationRule<T> createRule(
             final Predicate<T> validationFunction,
-            final Function<ValidationIdentifier, ValidationMetadata> metadataFactory) {
+            final Function<ValidationIdentifier, ? extends ValidationMetadata> metadataFactory) {
 
         return (value, result, identifier) -> {
             if (!validationFunction.test(value)) {
-                result.addFailure(new ValidationResult.Failure(
-                        metadataFactory.apply(identifier)
-                ));
+                result.addFailure(new ValidationResult.Failure(identifier, metadataFactory));
             }
         };
     }
@@ -93,7 +96,7 @@ public class ValidationRuleUtils {
      */
     public static <T> ValidationRule<T> createSkipNullRule(
             final Predicate<T> validationFunction,
-            final Function<ValidationIdentifier, ValidationMetadata> metadataFactory) {
+            final Function<ValidationIdentifier, ? extends ValidationMetadata> metadataFactory) {
 
         return (value, result, identifier) -> {
             if (value == null) {
@@ -101,10 +104,36 @@ public class ValidationRuleUtils {
             }
 
             if (!validationFunction.test(value)) {
-                result.addFailure(new ValidationResult.Failure(
-                        metadataFactory.apply(identifier)
-                ));
+                result.addFailure(new ValidationResult.Failure(identifier, metadataFactory));
+            }
+        };
+    }
+
+    /**
+     * Creates a validation rule that skips null values and evaluates the validation function
+     * against the {@link ValidationContext} of the result being validated into.
+     *
+     * <p>Use this method for rules whose outcome depends on the run, such as comparisons with
+     * the current time, so that all rules of a run share one clock reading.</p>
+     *
+     * @param <T> the type of value to validate
+     * @param validationFunction the predicate that determines if a non-null value is valid in the context
+     * @param metadataFactory function that creates validation metadata for failures
+     * @return a ValidationRule that skips validation for null values
+     * @throws NullPointerException if validationFunction or metadataFactory is null
+     */
+    public static <T> ValidationRule<T> createSkipNullContextRule(
+            final BiPredicate<T, ValidationContext> validationFunction,
+            final Function<ValidationIdentifier, ? extends ValidationMetadata> metadataFactory) {
+
+        return (value, result, identifier) -> {
+            if (value == null) {
+                return; // Skip validation for null value
+            }
+
+            if (!validationFunction.test(value, result.getContext())) {
+                result.addFailure(new ValidationResult.Failure(identifier, metadataFactory));
             }
         };
     }
-}
\ No newline at end of file
+}